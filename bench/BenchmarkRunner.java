@@ -0,0 +1,26 @@
+package bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Lance toute la suite (ou les benchmarks dont le nom correspond à args[0]) avec le
+// profiler GC (taux d'allocation) et écrit les résultats en JSON (args[1], défaut jmh-result.json)
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "bench\\..*";
+        String output = args.length > 1 ? args[1] : "jmh-result.json";
+        
+        Options options = new OptionsBuilder()
+            .include(include)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(output)
+            .build();
+        
+        new Runner(options).run();
+    }
+}
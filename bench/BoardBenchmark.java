@@ -0,0 +1,74 @@
+package bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import src.algorithm.MinConflictsSearch;
+import src.model.Board;
+import java.util.concurrent.TimeUnit;
+
+// Primitives de Board sur un damier à moitié rempli (préfixe d'une solution valide)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BoardBenchmark {
+    
+    @Param({"8", "64", "256"})
+    public int size;
+    
+    private Board board;
+    private Board copy;
+    private int row;
+    
+    @Setup
+    public void setUp() {
+        Board solution = new MinConflictsSearch(42).solve(size).getSolution();
+        board = new Board(size);
+        row = size / 2;
+        for (int r = 0; r < row; r++) {
+            board.placeQueen(r, solution.getQueenColumn(r));
+        }
+        copy = new Board(board);
+    }
+    
+    @Benchmark
+    public void isSafe(Blackhole blackhole) {
+        for (int col = 0; col < size; col++) {
+            blackhole.consume(board.isSafe(row, col));
+        }
+    }
+    
+    @Benchmark
+    public int countConflicts() {
+        return board.countConflicts();
+    }
+    
+    @Benchmark
+    public int hashCodeBoard() {
+        return board.hashCode();
+    }
+    
+    @Benchmark
+    public boolean equalsBoard() {
+        return board.equals(copy);
+    }
+    
+    @Benchmark
+    public Board placeAndCopy() {
+        Board child = new Board(board);
+        child.placeQueen(row, 0);
+        return child;
+    }
+}
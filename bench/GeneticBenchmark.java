@@ -0,0 +1,77 @@
+package bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import src.algorithm.Permutations;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Opérateurs de l'algorithme génétique : fitness, delta de swap et crossover PMX
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GeneticBenchmark {
+    
+    @Param({"8", "100", "1000"})
+    public int size;
+    
+    private SplittableRandom random;
+    private int[] parent1;
+    private int[] parent2;
+    private int[] child;
+    private int[] position;
+    private int[] diagonals;
+    private int[] antiDiagonals;
+    
+    @Setup
+    public void setUp() {
+        random = new SplittableRandom(42);
+        parent1 = new int[size];
+        parent2 = new int[size];
+        child = new int[size];
+        position = new int[size];
+        diagonals = new int[Permutations.histogramLength(size)];
+        antiDiagonals = new int[Permutations.histogramLength(size)];
+        Permutations.shuffle(parent1, 0, size, random);
+        Permutations.shuffle(parent2, 0, size, random);
+        Permutations.conflicts(parent1, 0, size, diagonals, antiDiagonals, 0);
+    }
+    
+    @Benchmark
+    public int fitness() {
+        return Permutations.conflicts(parent2, 0, size, diagonals, antiDiagonals, 0);
+    }
+    
+    @Benchmark
+    public int swapDelta() {
+        return Permutations.swap(parent1, 0, size, random.nextInt(size), random.nextInt(size),
+            diagonals, antiDiagonals, 0);
+    }
+    
+    @Benchmark
+    public int[] pmxCrossover() {
+        int point1 = random.nextInt(size);
+        int point2 = random.nextInt(size);
+        Permutations.pmx(parent1, 0, parent2, 0, child, 0, size,
+            Math.min(point1, point2), Math.max(point1, point2), position);
+        return child;
+    }
+    
+    @Benchmark
+    public int[] shuffle() {
+        Permutations.shuffle(child, 0, size, random);
+        return child;
+    }
+}
@@ -0,0 +1,68 @@
+package bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import src.algorithm.MinConflictsSearch;
+import src.algorithm.heuristic.ConflictHeuristic;
+import src.algorithm.heuristic.DistanceHeuristic;
+import src.algorithm.heuristic.EmptyDomainHeuristic;
+import src.algorithm.heuristic.Heuristic;
+import src.algorithm.heuristic.MinDomainHeuristic;
+import src.model.Board;
+import java.util.concurrent.TimeUnit;
+
+// Coût d'une évaluation d'heuristique sur un damier à moitié rempli
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HeuristicBenchmark {
+    
+    @Param({"CONFLICT", "DISTANCE", "EMPTY_DOMAIN", "MIN_DOMAIN"})
+    public String heuristic;
+    
+    @Param({"8", "64", "256"})
+    public int size;
+    
+    private Heuristic evaluator;
+    private Board board;
+    
+    @Setup
+    public void setUp() {
+        switch (heuristic) {
+            case "CONFLICT":
+                evaluator = new ConflictHeuristic();
+                break;
+            case "EMPTY_DOMAIN":
+                evaluator = new EmptyDomainHeuristic();
+                break;
+            case "MIN_DOMAIN":
+                evaluator = new MinDomainHeuristic();
+                break;
+            default:
+                evaluator = new DistanceHeuristic();
+        }
+        
+        Board solution = new MinConflictsSearch(42).solve(size).getSolution();
+        board = new Board(size);
+        for (int row = 0; row < size / 2; row++) {
+            board.placeQueen(row, solution.getQueenColumn(row));
+        }
+    }
+    
+    @Benchmark
+    public int evaluate() {
+        return evaluator.evaluate(board);
+    }
+}
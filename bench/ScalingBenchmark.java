@@ -0,0 +1,47 @@
+package bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import src.algorithm.AlgorithmFactory;
+import src.algorithm.AlgorithmType;
+import src.algorithm.SearchAlgorithm;
+import src.model.SearchResult;
+import java.util.concurrent.TimeUnit;
+
+// Algorithmes qui passent à l'échelle, sur des N hors de portée de BFS/A*
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScalingBenchmark {
+    
+    @Param({"DFS_BITMASK", "PARALLEL_DFS", "GENETIC", "GENETIC_ISLANDS", "GENETIC_MEMETIC", "MIN_CONFLICTS",
+            "FORWARD_CHECKING", "CONSTRUCTIVE", "PORTFOLIO"})
+    public String algorithm;
+    
+    @Param({"16", "24", "32"})
+    public int n;
+    
+    private SearchAlgorithm solver;
+    
+    @Setup
+    public void setUp() {
+        solver = AlgorithmFactory.create(AlgorithmType.valueOf(algorithm));
+    }
+    
+    @Benchmark
+    public SearchResult solve() {
+        return solver.solve(n);
+    }
+}
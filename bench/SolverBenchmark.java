@@ -0,0 +1,51 @@
+package bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import src.algorithm.AlgorithmFactory;
+import src.algorithm.AlgorithmType;
+import src.algorithm.SearchAlgorithm;
+import src.model.SearchResult;
+import java.util.concurrent.TimeUnit;
+
+// Résolution complète par AlgorithmType sur un balayage de N.
+// Les algorithmes exponentiels (BFS, A*) sont limités aux petites tailles
+// par le paramètre "n" ; surcharger avec -p n=... pour d'autres balayages.
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SolverBenchmark {
+    
+    @Param({"DFS", "DFS_BITMASK", "PARALLEL_DFS", "BFS", "BFS_PACKED", "ASTAR_DISTANCE",
+            "ASTAR_CONFLICT", "ASTAR_DOMAIN", "IDA_STAR", "SMA_STAR",
+            "GENETIC", "GENETIC_ISLANDS", "GENETIC_MEMETIC", "MIN_CONFLICTS",
+            "FORWARD_CHECKING", "CONSTRUCTIVE", "PORTFOLIO"})
+    public String algorithm;
+    
+    @Param({"6", "8", "10"})
+    public int n;
+    
+    private SearchAlgorithm solver;
+    
+    @Setup
+    public void setUp() {
+        solver = AlgorithmFactory.create(AlgorithmType.valueOf(algorithm));
+    }
+    
+    @Benchmark
+    public SearchResult solve() {
+        return solver.solve(n);
+    }
+}
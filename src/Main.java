@@ -1,10 +1,18 @@
 package src;
 
 import javax.swing.SwingUtilities;
+import src.cli.BatchRunner;
 import src.view.QueensGUI;
 
 public class Main {
     public static void main(String[] args) {
+        // Avec des arguments : mode ligne de commande, sans initialiser AWT
+        if (args.length > 0) {
+            System.setProperty("java.awt.headless", "true");
+            BatchRunner.main(args);
+            return;
+        }
+        
         SwingUtilities.invokeLater(() -> {
             QueensGUI gui = new QueensGUI();
             gui.setVisible(true);
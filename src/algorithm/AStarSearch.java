@@ -2,11 +2,9 @@ package src.algorithm;
 
 import src.algorithm.heuristic.Heuristic;
 import src.model.Board;
-import src.model.SearchNode;
+import src.model.SearchMetrics;
 import src.model.SearchResult;
-import java.util.HashSet;
-import java.util.PriorityQueue;
-import java.util.Set;
+import src.monitoring.ExpansionEvent;
 
 public class AStarSearch implements SearchAlgorithm {
     private final Heuristic heuristic;
@@ -16,49 +14,107 @@ public class AStarSearch implements SearchAlgorithm {
     }
     
     @Override
-    public SearchResult solve(int boardSize) {
-        long startTime = System.currentTimeMillis();
-        int nodesExplored = 0;
+    public SearchResult solve(int boardSize, SearchContext context) {
+        MetricsRecorder recorder = new MetricsRecorder();
+        long nodesExplored = 0;
+        context.start();
+        recorder.phase("search");
         
-        PriorityQueue<SearchNode> openSet = new PriorityQueue<>();
-        Set<Board> closedSet = new HashSet<>();
+        // Les nœuds ne gardent que leurs colonnes compactées ; un seul plateau de travail
+        // est rechargé à chaque expansion pour tester les cases et évaluer l'heuristique
+        int bits = PackedStates.bitsPerRow(boardSize);
+        int width = Math.max(1, PackedStates.words(boardSize, bits));
+        NodeStore nodes = new NodeStore(width);
+        long[] state = new long[width];
+        long[] child = new long[width];
+        Board board = new Board(boardSize);
+        int loadedDepth = 0;
+        Board solution = null;
         
-        Board initialBoard = new Board(boardSize);
-        SearchNode startNode = new SearchNode(initialBoard, 0, heuristic.evaluate(initialBoard), null);
-        openSet.offer(startNode);
+        int rootCost = heuristic.evaluate(board);
+        if (rootCost != Heuristic.DEAD_END) {
+            nodes.push(nodes.add(state, 0, 0, rootCost));
+        }
         
-        while (!openSet.isEmpty()) {
-            SearchNode current = openSet.poll();
+        while (!nodes.isEmpty()) {
+            int current = nodes.poll();
             nodesExplored++;
             
-            Board currentBoard = current.getBoard();
+            int row = nodes.getDepth(current);
             
-            if (currentBoard.isComplete()) {
-                long endTime = System.currentTimeMillis();
-                return new SearchResult(currentBoard, nodesExplored, endTime - startTime, true);
+            if ((nodesExplored & SearchContext.CHECK_MASK) == 0) {
+                sample(nodes, current, nodesExplored);
+                if (context.checkpoint(SearchContext.CHECK_INTERVAL, row, -1)) {
+                    break;
+                }
             }
             
-            closedSet.add(currentBoard);
+            // Recharger le plateau : seules les lignes qui diffèrent sont modifiées
+            nodes.copyState(current, state);
+            for (int r = 0; r < row; r++) {
+                int col = PackedStates.get(state, 0, r, bits);
+                if (board.getQueenColumn(r) != col) {
+                    board.placeQueen(r, col);
+                }
+            }
+            for (int r = row; r < loadedDepth; r++) {
+                board.removeQueen(r);
+            }
+            loadedDepth = row;
+            
+            if (board.isComplete()) {
+                solution = new Board(board);
+                break;
+            }
             
-            int row = currentBoard.getDepth();
             if (row < boardSize) {
+                int parentCost = nodes.getHCost(current);
                 for (int col = 0; col < boardSize; col++) {
-                    if (currentBoard.isSafe(row, col)) {
-                        Board newBoard = new Board(currentBoard);
-                        newBoard.placeQueen(row, col);
+                    // Pour un très grand N, une seule expansion peut être longue
+                    if ((col & SearchContext.CHECK_MASK) == SearchContext.CHECK_MASK
+                            && context.checkpoint(0, row, -1)) {
+                        break;
+                    }
+                    if (board.isSafe(row, col)) {
+                        board.placeQueen(row, col);
+                        int hCost = heuristic.evaluate(board, parentCost, row, col);
+                        board.removeQueen(row);
+                        // État sans solution : inutile de le stocker
+                        if (hCost == Heuristic.DEAD_END) {
+                            continue;
+                        }
                         
-                        if (!closedSet.contains(newBoard)) {
-                            int gCost = current.getGCost() + 1;
-                            int hCost = heuristic.evaluate(newBoard);
-                            SearchNode neighbor = new SearchNode(newBoard, gCost, hCost, current);
-                            openSet.offer(neighbor);
+                        System.arraycopy(state, 0, child, 0, width);
+                        PackedStates.set(child, 0, row, bits, col);
+                        int node = nodes.add(child, row + 1, row + 1, hCost);
+                        if (node >= 0) {
+                            nodes.push(node);
                         }
                     }
                 }
             }
         }
         
-        long endTime = System.currentTimeMillis();
-        return new SearchResult(null, nodesExplored, endTime - startTime, false);
+        SearchMetrics metrics = recorder.finish();
+        metrics.setNodesExpanded(nodesExplored);
+        metrics.setNodesGenerated(nodes.size());
+        metrics.setPeakFrontier(nodes.peakOpen());
+        metrics.setPeakMemoryBytes(nodes.memoryBytes());
+        
+        SearchResult result = new SearchResult(solution, nodesExplored, recorder.totalMillis(), solution != null);
+        result.setMetrics(metrics);
+        return result;
+    }
+    
+    // Événement JFR échantillonné (un par intervalle de vérification)
+    private static void sample(NodeStore nodes, int node, long nodesExplored) {
+        ExpansionEvent event = new ExpansionEvent();
+        if (event.shouldCommit()) {
+            event.nodesExpanded = nodesExplored;
+            event.depth = nodes.getDepth(node);
+            event.fCost = nodes.getFCost(node);
+            event.openSize = nodes.openSize();
+            event.commit();
+        }
     }
 }
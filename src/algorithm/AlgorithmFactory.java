@@ -0,0 +1,114 @@
+package src.algorithm;
+
+import src.algorithm.heuristic.ConflictHeuristic;
+import src.algorithm.heuristic.DistanceHeuristic;
+import src.algorithm.heuristic.MinDomainHeuristic;
+
+// Instancie l'algorithme correspondant à un AlgorithmType (configuration par défaut)
+public final class AlgorithmFactory {
+    // Historique commun à tous les portefeuilles créés sans historique explicite : chaque
+    // course profite des précédentes (en mémoire seulement)
+    private static final PortfolioHistory SHARED_HISTORY = new PortfolioHistory();
+    
+    private AlgorithmFactory() {
+    }
+    
+    public static SearchAlgorithm create(AlgorithmType type) {
+        return create(type, Runtime.getRuntime().availableProcessors());
+    }
+    
+    // Les algorithmes déterministes passent par le cache ; les autres sont recalculés
+    public static SearchAlgorithm create(AlgorithmType type, int threads, ResultCache cache) {
+        SearchAlgorithm algorithm = create(type, threads);
+        return type.isDeterministic() ? new CachedSearch(algorithm, type.name(), cache) : algorithm;
+    }
+    
+    // Avec une graine fixée, les algorithmes rejouables sont aussi mis en cache (clé incluant la graine)
+    public static SearchAlgorithm create(AlgorithmType type, int threads, long seed, ResultCache cache) {
+        SearchAlgorithm algorithm = create(type, threads, seed);
+        if (type.isDeterministic()) {
+            return new CachedSearch(algorithm, type.name(), cache);
+        }
+        return type.isSeedable() ? new CachedSearch(algorithm, type.name() + "@" + seed, cache) : algorithm;
+    }
+    
+    // seed : graine des algorithmes stochastiques (ignorée par les autres)
+    public static SearchAlgorithm create(AlgorithmType type, int threads, long seed) {
+        switch (type) {
+            case GENETIC:
+            case GENETIC_ISLANDS:
+            case GENETIC_MEMETIC:
+                GeneticConfig config = new GeneticConfig();
+                config.setSeed(seed);
+                if (type == AlgorithmType.GENETIC) {
+                    return new GeneticAlgorithm(config);
+                }
+                if (type == AlgorithmType.GENETIC_MEMETIC) {
+                    config.setLocalSearchSteps(GeneticConfig.MEMETIC_STEPS);
+                    return new GeneticAlgorithm(config);
+                }
+                config.setIslandCount(threads);
+                return new IslandGeneticAlgorithm(config);
+            case MIN_CONFLICTS:
+                return new MinConflictsSearch(seed);
+            default:
+                return create(type, threads);
+        }
+    }
+    
+    // SMA_STAR avec un plafond de nœuds gardés en mémoire (doit dépasser N)
+    public static SearchAlgorithm createSMAStar(int maxNodes) {
+        return new SMAStarSearch(new MinDomainHeuristic(), maxNodes);
+    }
+    
+    // PORTFOLIO avec un historique fourni par l'appelant (fichier persistant, par exemple)
+    public static SearchAlgorithm createPortfolio(int threads, PortfolioHistory history) {
+        return new PortfolioSearch(PortfolioSearch.DEFAULT_CANDIDATES, threads, history);
+    }
+    
+    // threads : parallélisme des algorithmes multi-threads (ignoré par les autres)
+    public static SearchAlgorithm create(AlgorithmType type, int threads) {
+        switch (type) {
+            case DFS:
+                return new DepthFirstSearch();
+            case DFS_BITMASK:
+                return new BitmaskDepthFirstSearch();
+            case PARALLEL_DFS:
+                return new ParallelSearch(threads);
+            case BFS:
+                return new BreadthFirstSearch();
+            case BFS_PACKED:
+                return new PackedBreadthFirstSearch();
+            case ASTAR_DISTANCE:
+                return new AStarSearch(new DistanceHeuristic());
+            case ASTAR_CONFLICT:
+                return new AStarSearch(new ConflictHeuristic());
+            case ASTAR_DOMAIN:
+                return new AStarSearch(new MinDomainHeuristic());
+            case IDA_STAR:
+                return new IDAStarSearch(new MinDomainHeuristic());
+            case SMA_STAR:
+                return createSMAStar(SMAStarSearch.DEFAULT_MAX_NODES);
+            case GENETIC:
+                return new GeneticAlgorithm();
+            case GENETIC_ISLANDS:
+                GeneticConfig config = new GeneticConfig();
+                config.setIslandCount(threads);
+                return new IslandGeneticAlgorithm(config);
+            case GENETIC_MEMETIC:
+                GeneticConfig memetic = new GeneticConfig();
+                memetic.setLocalSearchSteps(GeneticConfig.MEMETIC_STEPS);
+                return new GeneticAlgorithm(memetic);
+            case MIN_CONFLICTS:
+                return new MinConflictsSearch();
+            case FORWARD_CHECKING:
+                return new ForwardCheckingSearch();
+            case CONSTRUCTIVE:
+                return new ConstructiveSolver();
+            case PORTFOLIO:
+                return createPortfolio(threads, SHARED_HISTORY);
+            default:
+                throw new IllegalArgumentException("Algorithme inconnu: " + type);
+        }
+    }
+}
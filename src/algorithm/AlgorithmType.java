@@ -2,18 +2,49 @@ package src.algorithm;
 
 public enum AlgorithmType {
     DFS("Depth First Search"),
+    DFS_BITMASK("DFS (bitmask)"),
+    PARALLEL_DFS("DFS parallèle", false, false),
     BFS("Breadth First Search"),
+    BFS_PACKED("BFS (compact)"),
     ASTAR_DISTANCE("A* (Distance)"),
     ASTAR_CONFLICT("A* (Conflits)"),
-    GENETIC("Algorithme Génétique");
+    ASTAR_DOMAIN("A* (Domaines)"),
+    IDA_STAR("IDA*"),
+    SMA_STAR("SMA*"),
+    GENETIC("Algorithme Génétique", false, true),
+    GENETIC_ISLANDS("Génétique (îles)", false, false),
+    GENETIC_MEMETIC("Génétique (mémétique)", false, true),
+    MIN_CONFLICTS("Min-conflits", false, true),
+    FORWARD_CHECKING("Forward checking (MRV)"),
+    CONSTRUCTIVE("Construction explicite"),
+    PORTFOLIO("Portefeuille", false, false);
     
     private String displayName;
+    private boolean deterministic;
+    private boolean seedable;
     
     AlgorithmType(String displayName) {
+        this(displayName, true, false);
+    }
+    
+    AlgorithmType(String displayName, boolean deterministic, boolean seedable) {
         this.displayName = displayName;
+        this.deterministic = deterministic;
+        this.seedable = seedable;
     }
     
     public String getDisplayName() {
         return displayName;
     }
+    
+    // Même résultat à chaque exécution pour un N donné (condition pour le mettre en cache).
+    // Le DFS parallèle dépend de l'ordre d'arrivée des threads.
+    public boolean isDeterministic() {
+        return deterministic;
+    }
+    
+    // Algorithme stochastique rejouable à l'identique à partir de sa graine
+    public boolean isSeedable() {
+        return seedable;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+package src.algorithm;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Moteur de backtracking itératif sur masques de bits (N <= 64).
+// Toute la mémoire est allouée à la construction : aucune allocation par nœud.
+final class BitmaskBacktracker {
+    static final int MAX_SIZE = 64;
+    
+    private final int size;
+    private final long full;
+    
+    // Pile préallouée : état des masques à l'entrée de chaque ligne
+    private final long[] available;
+    private final long[] columns;
+    private final long[] diagonals;
+    private final long[] antiDiagonals;
+    private final int[] queens;
+    
+    private long nodesExplored;
+    
+    // À appeler avant tout travail (comptage, énumération) pour échouer sans rien lancer
+    static void checkSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Moteur bitmask limité à 1 <= N <= " + MAX_SIZE + ": N = " + size);
+        }
+    }
+    
+    // Arrêt coopératif (entre threads et via le contexte), consulté tous les
+    // SearchContext.CHECK_INTERVAL nœuds
+    private AtomicBoolean cancelled;
+    private SearchContext context;
+    
+    BitmaskBacktracker(int size) {
+        checkSize(size);
+        this.size = size;
+        this.full = size == MAX_SIZE ? -1L : (1L << size) - 1;
+        this.available = new long[size];
+        this.columns = new long[size];
+        this.diagonals = new long[size];
+        this.antiDiagonals = new long[size];
+        this.queens = new int[size];
+    }
+    
+    int getSize() {
+        return size;
+    }
+    
+    long getFullMask() {
+        return full;
+    }
+    
+    long getNodesExplored() {
+        return nodesExplored;
+    }
+    
+    void resetNodes() {
+        nodesExplored = 0;
+    }
+    
+    void setCancellation(AtomicBoolean cancelled) {
+        this.cancelled = cancelled;
+    }
+    
+    void setContext(SearchContext context) {
+        this.context = context;
+    }
+    
+    // Fixe une reine d'un préfixe (lignes < startRow) avant l'appel à search
+    void setQueen(int row, int col) {
+        queens[row] = col;
+    }
+    
+    // Explore le sous-arbre à partir de startRow. Les masques décrivent les lignes
+    // déjà occupées (diagonales décalées pour startRow), rowFilter restreint les
+    // colonnes essayées sur startRow. Retourne true si le listener (ou l'annulation)
+    // a demandé l'arrêt.
+    boolean search(int startRow, long cols, long diag, long anti, long rowFilter, SolutionListener listener) {
+        nodesExplored++;
+        if (startRow == size) {
+            return !listener.onSolution(queens);
+        }
+        
+        int row = startRow;
+        columns[row] = cols;
+        diagonals[row] = diag;
+        antiDiagonals[row] = anti;
+        available[row] = full & ~(cols | diag | anti) & rowFilter;
+        
+        while (row >= startRow) {
+            long avail = available[row];
+            if (avail == 0) {
+                row--;
+                continue;
+            }
+            
+            // Colonne légale de plus bas indice
+            long bit = avail & -avail;
+            available[row] = avail ^ bit;
+            queens[row] = Long.numberOfTrailingZeros(bit);
+            nodesExplored++;
+            
+            if ((nodesExplored & SearchContext.CHECK_MASK) == 0 && shouldStop(row)) {
+                return true;
+            }
+            
+            if (row + 1 == size) {
+                if (!listener.onSolution(queens)) {
+                    return true;
+                }
+                continue;
+            }
+            
+            long c = columns[row] | bit;
+            long d = (diagonals[row] | bit) << 1;
+            long a = (antiDiagonals[row] | bit) >>> 1;
+            row++;
+            columns[row] = c;
+            diagonals[row] = d;
+            antiDiagonals[row] = a;
+            available[row] = full & ~(c | d | a);
+        }
+        
+        return false;
+    }
+    
+    private boolean shouldStop(int row) {
+        if (cancelled != null && cancelled.get()) {
+            return true;
+        }
+        return context != null && context.checkpoint(SearchContext.CHECK_INTERVAL, row, -1);
+    }
+}
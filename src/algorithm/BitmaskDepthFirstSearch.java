@@ -0,0 +1,55 @@
+package src.algorithm;
+
+import src.model.Board;
+import src.model.SearchMetrics;
+import src.model.SearchResult;
+
+public class BitmaskDepthFirstSearch implements SearchAlgorithm {
+    
+    @Override
+    public SearchResult solve(int boardSize, SearchContext context) {
+        // Au-delà de 64 colonnes, les masques ne tiennent plus dans un long
+        if (boardSize < 1 || boardSize > BitmaskBacktracker.MAX_SIZE) {
+            return new DepthFirstSearch().solve(boardSize, context);
+        }
+        
+        MetricsRecorder recorder = new MetricsRecorder();
+        context.start();
+        
+        recorder.phase("search");
+        BitmaskBacktracker engine = new BitmaskBacktracker(boardSize);
+        engine.setContext(context);
+        // search() retourne aussi true sur annulation : la solution est copiée à part
+        int[] solution = new int[boardSize];
+        boolean[] found = new boolean[1];
+        engine.search(0, 0L, 0L, 0L, -1L, queens -> {
+            System.arraycopy(queens, 0, solution, 0, boardSize);
+            found[0] = true;
+            return false;
+        });
+        boolean success = found[0];
+        
+        recorder.phase("build");
+        Board board = null;
+        if (success) {
+            board = new Board(boardSize);
+            for (int row = 0; row < boardSize; row++) {
+                board.placeQueen(row, solution[row]);
+            }
+        }
+        
+        // Chaque placement est développé aussitôt : générés = développés - racine
+        SearchMetrics metrics = recorder.finish();
+        metrics.setNodesExpanded(engine.getNodesExplored());
+        metrics.setNodesGenerated(engine.getNodesExplored() - 1);
+        
+        SearchResult result = new SearchResult(
+            board,
+            engine.getNodesExplored(),
+            recorder.totalMillis(),
+            success
+        );
+        result.setMetrics(metrics);
+        return result;
+    }
+}
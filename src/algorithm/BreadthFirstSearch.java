@@ -1,6 +1,7 @@
 package src.algorithm;
 
 import src.model.Board;
+import src.model.SearchMetrics;
 import src.model.SearchResult;
 import java.util.LinkedList;
 import java.util.Queue;
@@ -8,36 +9,59 @@ import java.util.Queue;
 public class BreadthFirstSearch implements SearchAlgorithm {
     
     @Override
-    public SearchResult solve(int boardSize) {
-        long startTime = System.currentTimeMillis();
-        int nodesExplored = 0;
+    public SearchResult solve(int boardSize, SearchContext context) {
+        MetricsRecorder recorder = new MetricsRecorder();
+        long nodesExplored = 0;
+        long nodesGenerated = 1;
+        long peakFrontier = 1;
+        context.start();
         
+        recorder.phase("search");
         Queue<Board> queue = new LinkedList<>();
         Board initialBoard = new Board(boardSize);
         queue.offer(initialBoard);
+        Board solution = null;
         
         while (!queue.isEmpty()) {
             Board current = queue.poll();
             nodesExplored++;
             
+            if ((nodesExplored & SearchContext.CHECK_MASK) == 0
+                    && context.checkpoint(SearchContext.CHECK_INTERVAL, current.getDepth(), -1)) {
+                break;
+            }
+            
             if (current.isComplete()) {
-                long endTime = System.currentTimeMillis();
-                return new SearchResult(current, nodesExplored, endTime - startTime, true);
+                solution = current;
+                break;
             }
             
             int row = current.getDepth();
             if (row < boardSize) {
                 for (int col = 0; col < boardSize; col++) {
+                    // Pour un très grand N, une seule expansion peut être longue
+                    if ((col & SearchContext.CHECK_MASK) == SearchContext.CHECK_MASK
+                            && context.checkpoint(0, row, -1)) {
+                        break;
+                    }
                     if (current.isSafe(row, col)) {
                         Board newBoard = new Board(current);
                         newBoard.placeQueen(row, col);
                         queue.offer(newBoard);
+                        nodesGenerated++;
                     }
                 }
+                peakFrontier = Math.max(peakFrontier, queue.size());
             }
         }
         
-        long endTime = System.currentTimeMillis();
-        return new SearchResult(null, nodesExplored, endTime - startTime, false);
+        SearchMetrics metrics = recorder.finish();
+        metrics.setNodesExpanded(nodesExplored);
+        metrics.setNodesGenerated(nodesGenerated);
+        metrics.setPeakFrontier(peakFrontier);
+        
+        SearchResult result = new SearchResult(solution, nodesExplored, recorder.totalMillis(), solution != null);
+        result.setMetrics(metrics);
+        return result;
     }
 }
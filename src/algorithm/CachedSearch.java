@@ -0,0 +1,36 @@
+package src.algorithm;
+
+import src.model.SearchResult;
+
+// Décorateur : sert les résultats déjà calculés depuis un ResultCache. À réserver aux
+// algorithmes dont le résultat ne dépend que de la clé (algorithme, configuration, N).
+// Une recherche interrompue (annulation, budget) n'est jamais mise en cache.
+public class CachedSearch implements SearchAlgorithm {
+    private final SearchAlgorithm delegate;
+    private final String name;
+    private final ResultCache cache;
+    
+    // name : identifie l'algorithme et sa configuration (la taille est ajoutée à la clé)
+    public CachedSearch(SearchAlgorithm delegate, String name, ResultCache cache) {
+        this.delegate = delegate;
+        this.name = name;
+        this.cache = cache;
+    }
+    
+    @Override
+    public SearchResult solve(int boardSize, SearchContext context) {
+        String key = ResultCache.key(name, boardSize);
+        SearchResult cached = cache.getResult(key);
+        if (cached != null) {
+            // Le cache rend une copie des mesures d'origine : seul le drapeau change
+            cached.getMetrics().setCacheHit(true);
+            return cached;
+        }
+        
+        SearchResult result = delegate.solve(boardSize, context);
+        if (!context.isStopped()) {
+            cache.putResult(key, boardSize, result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,14 @@
+package src.algorithm;
+
+// Demande d'arrêt partagée entre le demandeur (GUI, service) et l'algorithme
+public class CancellationToken {
+    private volatile boolean cancelled;
+    
+    public void cancel() {
+        cancelled = true;
+    }
+    
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
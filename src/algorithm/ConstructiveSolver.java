@@ -0,0 +1,115 @@
+package src.algorithm;
+
+import src.model.Board;
+import src.model.SearchMetrics;
+import src.model.SearchResult;
+import java.util.function.IntConsumer;
+
+// Solution explicite en O(N), sans recherche (construction classique selon N mod 6) :
+// colonnes paires 2, 4, ... puis impaires 1, 3, ... (en numérotation 1..N), avec deux
+// cas particuliers quand N mod 6 vaut 2 ou 3. Aucune solution pour N = 2 et N = 3.
+public class ConstructiveSolver implements SearchAlgorithm {
+    private final boolean verify;
+    
+    public ConstructiveSolver() {
+        this(false);
+    }
+    
+    // verify : contrôle la solution produite en O(N) avant de la renvoyer
+    public ConstructiveSolver(boolean verify) {
+        this.verify = verify;
+    }
+    
+    @Override
+    public SearchResult solve(int boardSize, SearchContext context) {
+        MetricsRecorder recorder = new MetricsRecorder();
+        context.start();
+        recorder.phase("build");
+        
+        Board board = null;
+        boolean success = hasSolution(boardSize);
+        if (success) {
+            int[] queens = new int[boardSize];
+            int[] row = {0};
+            construct(boardSize, col -> queens[row[0]++] = col);
+            if (verify) {
+                recorder.phase("verify");
+                success = isValid(queens);
+                recorder.phase("build");
+            }
+            
+            if (success) {
+                board = new Board(boardSize);
+                for (int r = 0; r < boardSize; r++) {
+                    board.placeQueen(r, queens[r]);
+                }
+            }
+        }
+        context.checkpoint(boardSize, boardSize, -1);
+        
+        SearchMetrics metrics = recorder.finish();
+        metrics.setNodesExpanded(boardSize);
+        metrics.setNodesGenerated(boardSize);
+        
+        SearchResult result = new SearchResult(board, boardSize, recorder.totalMillis(), success);
+        result.setMetrics(metrics);
+        return result;
+    }
+    
+    public static boolean hasSolution(int boardSize) {
+        return boardSize == 1 || boardSize >= 4;
+    }
+    
+    // Émet la colonne (0..N-1) de chaque ligne, dans l'ordre des lignes, sans rien
+    // allouer : utilisable pour écrire directement une très grande solution en flux
+    public static void construct(int boardSize, IntConsumer columns) {
+        if (!hasSolution(boardSize)) {
+            throw new IllegalArgumentException("Aucune solution pour N = " + boardSize);
+        }
+        int n = boardSize;
+        int remainder = n % 6;
+        
+        // Colonnes paires (en numérotation 1..N)
+        if (remainder == 3) {
+            for (int c = 4; c <= n; c += 2) columns.accept(c - 1);
+            columns.accept(2 - 1);
+        } else {
+            for (int c = 2; c <= n; c += 2) columns.accept(c - 1);
+        }
+        
+        // Colonnes impaires
+        if (remainder == 2) {
+            columns.accept(3 - 1);
+            columns.accept(1 - 1);
+            for (int c = 7; c <= n; c += 2) columns.accept(c - 1);
+            columns.accept(5 - 1);
+        } else if (remainder == 3) {
+            for (int c = 5; c <= n; c += 2) columns.accept(c - 1);
+            columns.accept(1 - 1);
+            columns.accept(3 - 1);
+        } else {
+            for (int c = 1; c <= n; c += 2) columns.accept(c - 1);
+        }
+    }
+    
+    // Vérification en O(N) d'un placement brut, par tableaux d'occupation des colonnes
+    // et diagonales (sans construire de Board)
+    public static boolean isValid(int[] queens) {
+        int n = queens.length;
+        boolean[] columns = new boolean[n];
+        boolean[] diagonals = new boolean[Math.max(2 * n - 1, 0)];
+        boolean[] antiDiagonals = new boolean[Math.max(2 * n - 1, 0)];
+        
+        for (int row = 0; row < n; row++) {
+            int col = queens[row];
+            if (col < 0 || col >= n) return false;
+            int diag = row - col + n - 1;
+            int anti = row + col;
+            if (columns[col] || diagonals[diag] || antiDiagonals[anti]) return false;
+            columns[col] = true;
+            diagonals[diag] = true;
+            antiDiagonals[anti] = true;
+        }
+        return true;
+    }
+}
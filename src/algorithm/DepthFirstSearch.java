@@ -1,32 +1,54 @@
 package src.algorithm;
 
 import src.model.Board;
+import src.model.SearchMetrics;
 import src.model.SearchResult;
 
 public class DepthFirstSearch implements SearchAlgorithm {
-    private int nodesExplored;
+    private long nodesExplored;
+    private long nodesGenerated;
+    private SearchContext context;
+    private boolean stopped;
     
     @Override
-    public SearchResult solve(int boardSize) {
-        long startTime = System.currentTimeMillis();
+    public SearchResult solve(int boardSize, SearchContext context) {
+        MetricsRecorder recorder = new MetricsRecorder();
         nodesExplored = 0;
+        nodesGenerated = 0;
+        this.context = context;
+        this.stopped = false;
+        context.start();
         
+        recorder.phase("search");
         Board board = new Board(boardSize);
         boolean success = dfs(board, 0);
         
-        long endTime = System.currentTimeMillis();
+        SearchMetrics metrics = recorder.finish();
+        metrics.setNodesExpanded(nodesExplored);
+        metrics.setNodesGenerated(nodesGenerated);
         
-        return new SearchResult(
+        SearchResult result = new SearchResult(
             success ? board : null,
             nodesExplored,
-            endTime - startTime,
+            recorder.totalMillis(),
             success
         );
+        result.setMetrics(metrics);
+        return result;
     }
     
     private boolean dfs(Board board, int row) {
         nodesExplored++;
         
+        // Vérification périodique de l'annulation et des budgets
+        if ((nodesExplored & SearchContext.CHECK_MASK) == 0
+                && context.checkpoint(SearchContext.CHECK_INTERVAL, row, -1)) {
+            stopped = true;
+        }
+        if (stopped) {
+            return false;
+        }
+        
         if (row == board.getSize()) {
             return board.isComplete();
         }
@@ -34,12 +56,17 @@ public class DepthFirstSearch implements SearchAlgorithm {
         for (int col = 0; col < board.getSize(); col++) {
             if (board.isSafe(row, col)) {
                 board.placeQueen(row, col);
+                nodesGenerated++;
                 
                 if (dfs(board, row + 1)) {
                     return true;
                 }
                 
                 board.removeQueen(row);
+                
+                if (stopped) {
+                    return false;
+                }
             }
         }
         
@@ -0,0 +1,265 @@
+package src.algorithm;
+
+import src.model.Board;
+import src.model.SearchMetrics;
+import src.model.SearchResult;
+import java.util.Arrays;
+
+// Recherche par propagation de contraintes : chaque ligne garde le domaine de ses
+// colonnes encore possibles (bitset). Après chaque placement, les cases attaquées sont
+// retirées des domaines des lignes libres (forward checking) ; un domaine vide provoque
+// un retour arrière immédiat. La ligne suivante est celle au plus petit domaine (MRV)
+// et ses colonnes sont essayées du centre vers les bords, puis de la moins
+// contraignante à la plus contraignante (LCV).
+// Les retraits sont notés dans une pile (trail) pour être annulés sans recopie.
+public class ForwardCheckingSearch implements SearchAlgorithm {
+    // Les domaines occupent N * ceil(N / 64) mots : 128 Mo à cette taille
+    public static final int MAX_BOARD_SIZE = 32768;
+    private static final long NONE = Long.MAX_VALUE;
+    
+    private int size;
+    private int words;
+    private long[] domains;
+    private int[] domainSizes;
+    private int[] queens;
+    
+    // Nombre de valeurs encore présentes dans les domaines des lignes libres, par
+    // colonne, diagonale (row - col + N - 1) et anti-diagonale (row + col). Placer (r, c)
+    // retire exactement columnSupport[c] + diagonalSupport[...] + antiSupport[...] - 3
+    // valeurs aux autres lignes : le score LCV s'obtient en O(1).
+    private int[] columnSupport;
+    private int[] diagonalSupport;
+    private int[] antiSupport;
+    
+    // Valeurs retirées (row * N + col)
+    private long[] trail;
+    private int trailSize;
+    
+    private long nodesExplored;
+    private long nodesExpanded;
+    
+    @Override
+    public SearchResult solve(int boardSize, SearchContext context) {
+        if (boardSize > MAX_BOARD_SIZE) {
+            throw new IllegalArgumentException("Forward checking limité à N <= " + MAX_BOARD_SIZE
+                + " (domaines en O(N²/64)): N = " + boardSize);
+        }
+        MetricsRecorder recorder = new MetricsRecorder();
+        context.start();
+        recorder.phase("init");
+        initialize(boardSize);
+        
+        recorder.phase("search");
+        boolean success = search(context);
+        
+        recorder.phase("build");
+        Board board = null;
+        if (success) {
+            board = new Board(boardSize);
+            for (int row = 0; row < boardSize; row++) {
+                board.placeQueen(row, queens[row]);
+            }
+        }
+        
+        // Chaque valeur essayée est un nœud généré ; seules celles qui passent la
+        // propagation sont développées
+        SearchMetrics metrics = recorder.finish();
+        metrics.setNodesExpanded(nodesExpanded);
+        metrics.setNodesGenerated(nodesExplored);
+        
+        SearchResult result = new SearchResult(board, nodesExplored, recorder.totalMillis(), success);
+        result.setMetrics(metrics);
+        return result;
+    }
+    
+    private void initialize(int boardSize) {
+        size = boardSize;
+        words = (boardSize + 63) >>> 6;
+        domains = new long[Math.multiplyExact(boardSize, words)];
+        domainSizes = new int[boardSize];
+        queens = new int[boardSize];
+        Arrays.fill(queens, -1);
+        
+        int lines = Math.max(2 * boardSize - 1, 0);
+        columnSupport = new int[boardSize];
+        diagonalSupport = new int[lines];
+        antiSupport = new int[lines];
+        
+        for (int row = 0; row < boardSize; row++) {
+            for (int col = 0; col < boardSize; col++) {
+                domains[row * words + (col >>> 6)] |= 1L << col;
+                support(row, col, 1);
+            }
+            domainSizes[row] = boardSize;
+        }
+        
+        trail = new long[Math.max(16, 4 * boardSize)];
+        trailSize = 0;
+        nodesExplored = 0;
+        nodesExpanded = 0;
+    }
+    
+    // Parcours itératif : pour chaque profondeur, la ligne choisie, la dernière valeur
+    // essayée (clé score * N + colonne) et la hauteur de la pile d'annulation
+    private boolean search(SearchContext context) {
+        if (size == 0) {
+            return true;
+        }
+        int[] rows = new int[size];
+        long[] lastKeys = new long[size];
+        int[] marks = new int[size];
+        
+        int depth = 0;
+        rows[0] = selectRow();
+        lastKeys[0] = -1;
+        
+        while (depth >= 0) {
+            int row = rows[depth];
+            long key = nextValue(row, lastKeys[depth]);
+            
+            if (key == NONE) {
+                // Domaine épuisé : défaire le placement de la profondeur précédente
+                depth--;
+                if (depth >= 0) {
+                    unassign(rows[depth], marks[depth]);
+                }
+                continue;
+            }
+            lastKeys[depth] = key;
+            nodesExplored++;
+            
+            if ((nodesExplored & SearchContext.CHECK_MASK) == 0
+                    && context.checkpoint(SearchContext.CHECK_INTERVAL, depth, -1)) {
+                return false;
+            }
+            
+            marks[depth] = trailSize;
+            if (!assign(row, (int) (key % size))) {
+                unassign(row, marks[depth]);
+                continue;
+            }
+            
+            nodesExpanded++;
+            depth++;
+            if (depth == size) {
+                return true;
+            }
+            rows[depth] = selectRow();
+            lastKeys[depth] = -1;
+        }
+        return false;
+    }
+    
+    // MRV : ligne libre au plus petit domaine. Les égalités sont départagées par un
+    // ordre de lignes pseudo-aléatoire fixe : un ordre régulier (haut en bas, centre
+    // d'abord) concentre les reines et provoque de longs retours arrière.
+    private int selectRow() {
+        int best = -1;
+        int bestSize = Integer.MAX_VALUE;
+        for (int row = 0; row < size; row++) {
+            if (queens[row] == -1 && (domainSizes[row] < bestSize
+                    || domainSizes[row] == bestSize && rowPriority(row) < rowPriority(best))) {
+                best = row;
+                bestSize = domainSizes[row];
+            }
+        }
+        return best;
+    }
+    
+    private static int rowPriority(int row) {
+        return (row * 0x9E3779B9) >>> 8;
+    }
+    
+    // Ordre des valeurs : colonnes proches du centre d'abord, puis LCV (le moins de
+    // valeurs retirées aux autres lignes). Le LCV seul favorise les bords, qui attaquent
+    // moins de cases, et s'enlise au-delà de N = 200 environ.
+    // Renvoie la plus petite clé (score * N + colonne) strictement après la précédente ;
+    // les compteurs étant restaurés à l'identique au retour arrière, les scores d'une
+    // ligne ne changent pas entre deux essais.
+    private long nextValue(int row, long lastKey) {
+        long best = NONE;
+        int base = row * words;
+        for (int w = 0; w < words; w++) {
+            long bits = domains[base + w];
+            while (bits != 0) {
+                int col = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                long eliminated = columnSupport[col] + diagonalSupport[row - col + size - 1] + antiSupport[row + col];
+                long score = Math.abs(2 * col - (size - 1)) * 4L * size + eliminated;
+                long key = score * size + col;
+                if (key > lastKey && key < best) {
+                    best = key;
+                }
+            }
+        }
+        return best;
+    }
+    
+    // Place la reine et propage ; renvoie false si un domaine devient vide
+    private boolean assign(int row, int col) {
+        queens[row] = col;
+        supportDomain(row, -1);
+        
+        boolean consistent = true;
+        for (int other = 0; other < size; other++) {
+            if (queens[other] != -1) continue;
+            int distance = other - row;
+            prune(other, col);
+            prune(other, col + distance);
+            prune(other, col - distance);
+            if (domainSizes[other] == 0) {
+                consistent = false;
+                break;
+            }
+        }
+        return consistent;
+    }
+    
+    private void unassign(int row, int mark) {
+        while (trailSize > mark) {
+            long entry = trail[--trailSize];
+            int other = (int) (entry / size);
+            int col = (int) (entry % size);
+            domains[other * words + (col >>> 6)] |= 1L << col;
+            domainSizes[other]++;
+            support(other, col, 1);
+        }
+        supportDomain(row, 1);
+        queens[row] = -1;
+    }
+    
+    private void prune(int row, int col) {
+        if (col < 0 || col >= size) return;
+        int word = row * words + (col >>> 6);
+        long bit = 1L << col;
+        if ((domains[word] & bit) == 0) return;
+        
+        domains[word] &= ~bit;
+        domainSizes[row]--;
+        support(row, col, -1);
+        
+        if (trailSize == trail.length) {
+            trail = Arrays.copyOf(trail, 2 * trail.length);
+        }
+        trail[trailSize++] = (long) row * size + col;
+    }
+    
+    private void support(int row, int col, int delta) {
+        columnSupport[col] += delta;
+        diagonalSupport[row - col + size - 1] += delta;
+        antiSupport[row + col] += delta;
+    }
+    
+    // Une ligne placée ne compte plus dans les supports (et y revient au retour arrière)
+    private void supportDomain(int row, int delta) {
+        int base = row * words;
+        for (int w = 0; w < words; w++) {
+            long bits = domains[base + w];
+            while (bits != 0) {
+                int col = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                support(row, col, delta);
+            }
+        }
+    }
+}
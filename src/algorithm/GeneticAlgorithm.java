@@ -1,153 +1,551 @@
 package src.algorithm;
 
 import src.model.Board;
+import src.model.SearchMetrics;
 import src.model.SearchResult;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
-import java.util.Collections;
+import src.monitoring.GenerationEvent;
+import src.monitoring.RestartEvent;
+import java.util.Arrays;
+import java.util.SplittableRandom;
 
 public class GeneticAlgorithm implements SearchAlgorithm {
-    private static final int POPULATION_SIZE = 200;
-    private static final int MAX_GENERATIONS = 50000;
-    private static final double MUTATION_RATE = 0.15;
-    private static final double CROSSOVER_RATE = 0.85;
-    private static final int TOURNAMENT_SIZE = 5;
-    private static final int ELITE_SIZE = 5;
+    // Sans contrôle adaptatif : redémarrage partiel après ce nombre de générations sans progrès
+    private static final int RESTART_STAGNATION = 1000;
     
-    private Random random;
-    private int nodesExplored;
+    // Contrôle adaptatif. Le taux de mutation baisse quand le meilleur progresse et monte
+    // pendant la stagnation ; le taux de crossover suit la part de succès du crossover
+    // (enfant meilleur que ses parents) face à la mutation seule.
+    private static final double MIN_MUTATION = 0.02;
+    private static final double MAX_MUTATION = 0.6;
+    private static final double MUTATION_DECAY = 0.9;
+    private static final double MUTATION_GROWTH = 1.02;
+    private static final double MIN_CROSSOVER = 0.5;
+    private static final double MAX_CROSSOVER = 0.95;
+    // Poids d'une génération dans les moyennes glissantes de succès
+    private static final double SUCCESS_SMOOTHING = 0.1;
+    // Générations entre deux mesures de diversité, et de stagnation entre deux réparations
+    private static final int DIVERSITY_INTERVAL = 10;
+    private static final int REPAIR_PATIENCE = 20;
+    // Une population convergée qui progresse encore n'est pas redémarrée : il faut aussi
+    // que plusieurs réparations successives aient échoué
+    private static final int RESTART_PATIENCE = 5 * REPAIR_PATIENCE;
+    
+    // Origine d'un enfant, pour attribuer son succès à un opérateur
+    private static final byte CROSSED = 1;
+    private static final byte MUTATED = 2;
+    
+    private final GeneticConfig config;
+    private SplittableRandom random;
+    private long nodesExplored;
+    private long generations;
+    private long evaluations;
+    // Temps passé en recherche locale (réparations et mode mémétique)
+    private long localSearchNanos;
+    
+    // État d'une exécution, avancé génération par génération (réutilisé par le modèle en îles)
+    private int boardSize;
+    private int populationSize;
+    private int stagnationCounter;
+    private int bestFitness;
+    private int solutionIndex;
+    
+    private double mutationRate;
+    private double crossoverRate;
+    private double crossoverSuccess;
+    private double mutationSuccess;
+    // Entropie normalisée des gènes (1 : colonnes uniformes par ligne, 0 : population clonée)
+    private double diversity;
+    
+    // Population à plat, en double tampon : l'individu i occupe genes[i * N .. (i + 1) * N)
+    // et ses histogrammes diagonals/antiDiagonals[i * (2N - 1) ..]. Les tampons "next"
+    // reçoivent la génération suivante puis sont échangés : aucune allocation par génération.
+    private int[] genes;
+    private int[] nextGenes;
+    private int[] fitness;
+    private int[] nextFitness;
+    // Vrai si la fitness et les histogrammes de l'individu sont à jour
+    private boolean[] evaluated;
+    private boolean[] nextEvaluated;
+    private int[] diagonals;
+    private int[] nextDiagonals;
+    private int[] antiDiagonals;
+    private int[] nextAntiDiagonals;
+    // Opérateurs ayant produit l'individu et meilleure fitness de ses parents
+    private byte[] operators;
+    private byte[] nextOperators;
+    private int[] parentFitness;
+    private int[] nextParentFitness;
+    
+    // Tampons de travail : clés de tri (fitness << 32 | index), classement, index PMX,
+    // effectifs par colonne et table k·ln(k) pour l'entropie
+    private long[] sortKeys;
+    private int[] ranking;
+    private int[] position;
+    private int[] columnCounts;
+    private double[] countLogs;
     
     public GeneticAlgorithm() {
-        this.random = new Random();
+        this(new GeneticConfig());
+    }
+    
+    public GeneticAlgorithm(GeneticConfig config) {
+        this(config, null);
+    }
+    
+    // random : générateur d'une île (solve en crée un à partir de la graine de la config)
+    GeneticAlgorithm(GeneticConfig config, SplittableRandom random) {
+        this.config = config;
+        this.random = random;
     }
     
     @Override
-    public SearchResult solve(int boardSize) {
-        long startTime = System.currentTimeMillis();
-        nodesExplored = 0;
+    public SearchResult solve(int boardSize, SearchContext context) {
+        MetricsRecorder recorder = new MetricsRecorder();
+        context.start();
+        long seed = config.nextSeed();
+        random = new SplittableRandom(seed);
         
         // Initialiser la population avec permutations
-        List<Individual> population = initializePopulation(boardSize);
+        recorder.phase("init");
+        initialize(boardSize);
         
-        Individual bestSolution = null;
+        recorder.phase("evolve");
+        boolean solved = false;
         int generation = 0;
-        int stagnationCounter = 0;
-        int bestFitness = Integer.MAX_VALUE;
-        
-        while (generation < MAX_GENERATIONS) {
+        while (generation < config.getMaxGenerations() && !solved) {
             generation++;
-            nodesExplored += population.size();
-            
-            // Évaluer la population
-            evaluatePopulation(population);
+            solved = evolve();
             
-            // Trier par fitness (meilleur = fitness la plus basse)
-            population.sort((a, b) -> Integer.compare(a.fitness, b.fitness));
-            
-            // Vérifier si on a trouvé une solution
-            if (population.get(0).fitness == 0) {
-                bestSolution = population.get(0);
+            // Une vérification par génération suffit : son coût est négligeable devant l'évaluation
+            if (!solved && context.checkpoint(populationSize, -1, getBestFitness())) {
                 break;
             }
+        }
+        
+        recorder.phase("build");
+        Board solutionBoard = solved ? createBoard(solutionGenes(), boardSize) : null;
+        
+        SearchMetrics metrics = recorder.finish();
+        recordMetrics(metrics);
+        // La recherche locale est comptée à part : "evolve" ne garde que l'évolution
+        if (localSearchNanos > 0) {
+            metrics.addPhaseNanos("evolve", -localSearchNanos);
+        }
+        
+        SearchResult result = new SearchResult(solutionBoard, nodesExplored, recorder.totalMillis(), solved, seed);
+        result.setMetrics(metrics);
+        return result;
+    }
+    
+    void initialize(int boardSize) {
+        this.boardSize = boardSize;
+        this.nodesExplored = 0;
+        this.generations = 0;
+        this.evaluations = 0;
+        this.localSearchNanos = 0;
+        this.stagnationCounter = 0;
+        this.bestFitness = Integer.MAX_VALUE;
+        this.solutionIndex = -1;
+        this.mutationRate = config.getMutationRate();
+        this.crossoverRate = config.getCrossoverRate();
+        this.crossoverSuccess = 0;
+        this.mutationSuccess = 0;
+        this.diversity = 1;
+        allocate(boardSize, config.getPopulationSize());
+        
+        for (int i = 0; i < populationSize; i++) {
+            randomize(i);
+        }
+    }
+    
+    // Une génération : évaluation, classement, puis reproduction. Retourne true si la
+    // population contient une solution (voir solutionGenes()).
+    boolean evolve() {
+        // Événement JFR par génération : coût négligeable devant la génération elle-même
+        GenerationEvent event = new GenerationEvent();
+        event.begin();
+        long evaluationsBefore = evaluations;
+        
+        boolean solved = nextGeneration();
+        
+        event.end();
+        if (event.shouldCommit()) {
+            event.generation = generations;
+            event.bestFitness = solved ? 0 : getBestFitness();
+            event.evaluations = evaluations - evaluationsBefore;
+            event.commit();
+        }
+        return solved;
+    }
+    
+    private boolean nextGeneration() {
+        nodesExplored += populationSize;
+        generations++;
+        
+        // Évaluer la population
+        evaluatePopulation();
+        if (config.isAdaptive()) {
+            adaptRates();
+        }
+        
+        // Classer par fitness (meilleur = fitness la plus basse)
+        rankPopulation();
+        int best = ranking[0];
+        
+        // Vérifier si on a trouvé une solution
+        if (fitness[best] == 0) {
+            solutionIndex = best;
+            return true;
+        }
+        
+        // Détecter la stagnation
+        boolean improved = fitness[best] < bestFitness;
+        if (improved) {
+            bestFitness = fitness[best];
+            stagnationCounter = 0;
+        } else {
+            stagnationCounter++;
+        }
+        
+        int eliteSize = Math.min(config.getEliteSize(), populationSize);
+        if (config.isAdaptive()) {
+            mutationRate = improved
+                ? Math.max(MIN_MUTATION, mutationRate * MUTATION_DECAY)
+                : Math.min(MAX_MUTATION, mutationRate * MUTATION_GROWTH);
             
-            // Détecter la stagnation
-            if (population.get(0).fitness < bestFitness) {
-                bestFitness = population.get(0).fitness;
-                stagnationCounter = 0;
-            } else {
-                stagnationCounter++;
+            // Stagnation : recherche locale sur le meilleur individu
+            if (stagnationCounter > 0 && stagnationCounter % REPAIR_PATIENCE == 0 && repair(best)) {
+                solutionIndex = best;
+                return true;
             }
             
-            // Réinitialisation partielle si stagnation
-            if (stagnationCounter > 1000) {
-                for (int i = ELITE_SIZE; i < population.size() / 2; i++) {
-                    population.set(i, new Individual(boardSize));
+            // Redémarrage partiel quand la population a perdu sa diversité
+            if (generations % DIVERSITY_INTERVAL == 0) {
+                diversity = measureDiversity();
+                if (diversity < config.getDiversityThreshold() && stagnationCounter >= RESTART_PATIENCE) {
+                    restart(eliteSize);
+                    mutationRate = config.getMutationRate();
                 }
-                stagnationCounter = 0;
             }
+        } else if (stagnationCounter > RESTART_STAGNATION) {
+            // Réinitialisation partielle si stagnation
+            restart(eliteSize);
+        }
+        
+        // Élitisme : garder les meilleurs
+        for (int i = 0; i < eliteSize; i++) {
+            copyToNext(ranking[i], i);
+            nextOperators[i] = 0;
+        }
+        
+        // Remplir le reste avec crossover et mutation
+        for (int child = eliteSize; child < populationSize; child++) {
+            int parent1 = tournamentSelection();
+            int parent2 = tournamentSelection();
             
-            // Créer nouvelle génération
-            List<Individual> newPopulation = new ArrayList<>();
-            
-            // Élitisme : garder les meilleurs
-            for (int i = 0; i < ELITE_SIZE && i < population.size(); i++) {
-                newPopulation.add(new Individual(population.get(i)));
+            byte operator = 0;
+            if (random.nextDouble() < crossoverRate) {
+                pmxCrossover(parent1, parent2, child);
+                nextParentFitness[child] = Math.min(fitness[parent1], fitness[parent2]);
+                operator = CROSSED;
+            } else {
+                copyToNext(parent1, child);
+                nextParentFitness[child] = fitness[parent1];
             }
             
-            // Remplir le reste avec crossover et mutation
-            while (newPopulation.size() < POPULATION_SIZE) {
-                Individual parent1 = tournamentSelection(population);
-                Individual parent2 = tournamentSelection(population);
-                
-                Individual child;
-                if (random.nextDouble() < CROSSOVER_RATE) {
-                    child = pmxCrossover(parent1, parent2);
-                } else {
-                    child = new Individual(parent1);
-                }
-                
-                if (random.nextDouble() < MUTATION_RATE) {
-                    swapMutation(child);
-                }
-                
-                newPopulation.add(child);
+            if (random.nextDouble() < mutationRate) {
+                swapMutation(child);
+                operator |= MUTATED;
             }
+            nextOperators[child] = operator;
             
-            population = newPopulation;
+            if (config.getLocalSearchSteps() > 0) {
+                improveChild(child);
+            }
         }
         
-        long endTime = System.currentTimeMillis();
-        
-        if (bestSolution != null && bestSolution.fitness == 0) {
-            Board solutionBoard = createBoard(bestSolution, boardSize);
-            return new SearchResult(solutionBoard, nodesExplored, endTime - startTime, true);
+        swapBuffers();
+        return false;
+    }
+    
+    // Les nouveaux individus sont évalués aussitôt : la sélection par tournoi qui suit
+    // les écarterait presque toujours avec une fitness inconnue (MAX_VALUE)
+    private void restart(int eliteSize) {
+        for (int rank = eliteSize; rank < populationSize / 2; rank++) {
+            int index = ranking[rank];
+            randomize(index);
+            fitness[index] = calculateFitness(index);
+            evaluated[index] = true;
+            evaluations++;
         }
+        stagnationCounter = 0;
         
-        // Si pas de solution parfaite, retourner la meilleure trouvée
-        if (bestSolution == null && !population.isEmpty()) {
-            bestSolution = population.get(0);
+        RestartEvent restart = new RestartEvent();
+        if (restart.shouldCommit()) {
+            restart.generation = generations;
+            restart.bestFitness = bestFitness;
+            restart.randomized = Math.max(0, populationSize / 2 - eliteSize);
+            restart.commit();
         }
-        
-        return new SearchResult(null, nodesExplored, endTime - startTime, false);
     }
     
-    private List<Individual> initializePopulation(int boardSize) {
-        List<Individual> population = new ArrayList<>();
-        for (int i = 0; i < POPULATION_SIZE; i++) {
-            population.add(new Individual(boardSize));
+    // Succès de la génération qui vient d'être évaluée : un enfant réussit s'il est meilleur
+    // que le meilleur de ses parents. La mutation n'est jugée que sur les enfants sans crossover.
+    private void adaptRates() {
+        int crossed = 0, crossedWins = 0;
+        int mutated = 0, mutatedWins = 0;
+        for (int i = 0; i < populationSize; i++) {
+            byte operator = operators[i];
+            if (operator == 0) continue;
+            boolean success = fitness[i] < parentFitness[i];
+            if ((operator & CROSSED) != 0) {
+                crossed++;
+                if (success) crossedWins++;
+            } else {
+                mutated++;
+                if (success) mutatedWins++;
+            }
+        }
+        if (crossed > 0) {
+            crossoverSuccess += SUCCESS_SMOOTHING * ((double) crossedWins / crossed - crossoverSuccess);
+        }
+        if (mutated > 0) {
+            mutationSuccess += SUCCESS_SMOOTHING * ((double) mutatedWins / mutated - mutationSuccess);
+        }
+        double total = crossoverSuccess + mutationSuccess;
+        if (total > 0) {
+            crossoverRate = Math.max(MIN_CROSSOVER, Math.min(MAX_CROSSOVER, crossoverSuccess / total));
         }
-        return population;
     }
     
-    private void evaluatePopulation(List<Individual> population) {
-        for (Individual individual : population) {
-            individual.fitness = calculateFitness(individual);
+    // Entropie moyenne, par ligne, de la colonne portée par chaque individu, rapportée à son
+    // maximum ln(min(population, N)). O(population × N), mesurée toutes les DIVERSITY_INTERVAL
+    // générations : du même ordre qu'une évaluation de la population.
+    private double measureDiversity() {
+        int distinct = Math.min(populationSize, boardSize);
+        if (distinct < 2) {
+            return 1;
         }
+        double total = 0;
+        for (int row = 0; row < boardSize; row++) {
+            for (int i = 0; i < populationSize; i++) {
+                columnCounts[genes[i * boardSize + row]]++;
+            }
+            // H = ln(P) - Σ k·ln(k) / P sur les effectifs k des colonnes présentes
+            double sum = 0;
+            for (int i = 0; i < populationSize; i++) {
+                int col = genes[i * boardSize + row];
+                sum += countLogs[columnCounts[col]];
+                columnCounts[col] = 0;
+            }
+            total += Math.log(populationSize) - sum / populationSize;
+        }
+        return total / (boardSize * Math.log(distinct));
     }
     
-    private int calculateFitness(Individual individual) {
-        // Fitness = nombre de paires de reines en conflit
-        int conflicts = 0;
-        int size = individual.genes.length;
+    // Stagnation : recherche locale sur le meilleur individu de la population courante.
+    // Retourne true si l'individu devient une solution.
+    private boolean repair(int index) {
+        long start = System.nanoTime();
+        fitness[index] = localSearch(genes, diagonals, antiDiagonals, index, fitness[index],
+            config.repairSteps(boardSize));
+        evaluations++;
+        localSearchNanos += System.nanoTime() - start;
         
-        for (int i = 0; i < size; i++) {
-            for (int j = i + 1; j < size; j++) {
-                // Conflit de diagonale (pas de conflit de colonne avec permutation)
-                if (Math.abs(individual.genes[i] - individual.genes[j]) == Math.abs(i - j)) {
-                    conflicts++;
+        if (fitness[index] < bestFitness) {
+            bestFitness = fitness[index];
+            stagnationCounter = 0;
+        }
+        return fitness[index] == 0;
+    }
+    
+    // Mode mémétique : amélioration locale de l'enfant avant son entrée dans la population.
+    // Un enfant issu du crossover est évalué ici pour disposer de ses histogrammes.
+    private void improveChild(int child) {
+        long start = System.nanoTime();
+        if (!nextEvaluated[child]) {
+            nextFitness[child] = Permutations.conflicts(nextGenes, child * boardSize, boardSize,
+                nextDiagonals, nextAntiDiagonals, child * Permutations.histogramLength(boardSize));
+            nextEvaluated[child] = true;
+            evaluations++;
+        }
+        int before = nextFitness[child];
+        nextFitness[child] = localSearch(nextGenes, nextDiagonals, nextAntiDiagonals, child, before,
+            config.getLocalSearchSteps());
+        // Le gain de la recherche locale n'est pas porté au crédit des opérateurs (adaptRates)
+        nextParentFitness[child] -= before - nextFitness[child];
+        localSearchNanos += System.nanoTime() - start;
+    }
+    
+    // Recherche locale sur un individu évalué des tampons donnés : à chaque pas, une ligne
+    // en conflit est échangée avec la ligne qui réduit le plus les conflits (évaluation
+    // delta en O(1), pas neutres acceptés). Retourne la nouvelle fitness.
+    private int localSearch(int[] genes, int[] diagonals, int[] antiDiagonals, int index, int fitness, int steps) {
+        int offset = index * boardSize;
+        int histOffset = index * Permutations.histogramLength(boardSize);
+        
+        for (int step = 0; step < steps && fitness > 0; step++) {
+            int row = conflictedRow(genes, diagonals, antiDiagonals, offset, histOffset);
+            int bestRow = -1;
+            int bestDelta = Integer.MAX_VALUE;
+            int ties = 0;
+            for (int other = 0; other < boardSize; other++) {
+                if (other == row) continue;
+                int delta = Permutations.swap(genes, offset, boardSize, row, other,
+                    diagonals, antiDiagonals, histOffset);
+                Permutations.swap(genes, offset, boardSize, row, other, diagonals, antiDiagonals, histOffset);
+                if (delta < bestDelta) {
+                    bestDelta = delta;
+                    bestRow = other;
+                    ties = 1;
+                } else if (delta == bestDelta && random.nextInt(++ties) == 0) {
+                    bestRow = other;
                 }
             }
+            if (bestRow >= 0 && bestDelta <= 0) {
+                fitness += Permutations.swap(genes, offset, boardSize, row, bestRow,
+                    diagonals, antiDiagonals, histOffset);
+            }
+        }
+        return fitness;
+    }
+    
+    // Une ligne en conflit, cherchée à partir d'une ligne tirée au hasard (fitness > 0)
+    private int conflictedRow(int[] genes, int[] diagonals, int[] antiDiagonals, int offset, int histOffset) {
+        int start = random.nextInt(boardSize);
+        for (int i = 0; i < boardSize; i++) {
+            int row = start + i < boardSize ? start + i : start + i - boardSize;
+            if (Permutations.inConflict(genes, offset, boardSize, row, diagonals, antiDiagonals, histOffset)) {
+                return row;
+            }
+        }
+        return start;
+    }
+    
+    // Copie des gènes des premiers individus : après evolve(), l'élite de la
+    // génération précédente est en tête de population
+    int[][] bestGenes(int count) {
+        int n = Math.min(count, populationSize);
+        int[][] result = new int[n][];
+        for (int i = 0; i < n; i++) {
+            result[i] = Arrays.copyOfRange(genes, i * boardSize, (i + 1) * boardSize);
+        }
+        return result;
+    }
+    
+    // Gènes de la solution trouvée par le dernier appel à evolve()
+    int[] solutionGenes() {
+        return Arrays.copyOfRange(genes, solutionIndex * boardSize, (solutionIndex + 1) * boardSize);
+    }
+    
+    // Remplace les derniers individus (hors élite) par des migrants
+    void immigrate(int[][] migrants) {
+        int first = Math.max(config.getEliteSize(), populationSize - migrants.length);
+        for (int i = first, k = 0; i < populationSize; i++, k++) {
+            System.arraycopy(migrants[k], 0, genes, i * boardSize, boardSize);
+            fitness[i] = Integer.MAX_VALUE;
+            evaluated[i] = false;
+            operators[i] = 0;
+        }
+    }
+    
+    long getNodesExplored() {
+        return nodesExplored;
+    }
+    
+    // Un individu = un nœud ; les évaluations ne comptent que les fitness recalculées.
+    // La phase "local" cumule la recherche locale de toutes les îles qui l'enregistrent.
+    void recordMetrics(SearchMetrics metrics) {
+        metrics.setNodesExpanded(metrics.getNodesExpanded() + nodesExplored);
+        metrics.setNodesGenerated(metrics.getNodesGenerated() + nodesExplored);
+        metrics.setGenerations(metrics.getGenerations() + generations);
+        metrics.setEvaluations(metrics.getEvaluations() + evaluations);
+        if (localSearchNanos > 0) {
+            metrics.addPhaseNanos("local", localSearchNanos);
+        }
+    }
+    
+    double getDiversity() {
+        return diversity;
+    }
+    
+    // Meilleure fitness observée depuis le dernier redémarrage, -1 avant la première génération
+    int getBestFitness() {
+        return bestFitness == Integer.MAX_VALUE ? -1 : bestFitness;
+    }
+    
+    // Les tampons ne sont réalloués que si la taille change entre deux exécutions
+    private void allocate(int boardSize, int populationSize) {
+        int histogram = Permutations.histogramLength(boardSize);
+        if (genes == null || this.populationSize != populationSize || genes.length != populationSize * boardSize) {
+            genes = new int[populationSize * boardSize];
+            nextGenes = new int[populationSize * boardSize];
+            fitness = new int[populationSize];
+            nextFitness = new int[populationSize];
+            evaluated = new boolean[populationSize];
+            nextEvaluated = new boolean[populationSize];
+            diagonals = new int[populationSize * histogram];
+            nextDiagonals = new int[populationSize * histogram];
+            antiDiagonals = new int[populationSize * histogram];
+            nextAntiDiagonals = new int[populationSize * histogram];
+            operators = new byte[populationSize];
+            nextOperators = new byte[populationSize];
+            parentFitness = new int[populationSize];
+            nextParentFitness = new int[populationSize];
+            sortKeys = new long[populationSize];
+            ranking = new int[populationSize];
+            position = new int[boardSize];
+            columnCounts = new int[boardSize];
+            countLogs = new double[populationSize + 1];
+            for (int k = 1; k <= populationSize; k++) {
+                countLogs[k] = k * Math.log(k);
+            }
+        }
+        this.populationSize = populationSize;
+    }
+    
+    private void randomize(int index) {
+        Permutations.shuffle(genes, index * boardSize, boardSize, random);
+        fitness[index] = Integer.MAX_VALUE;
+        evaluated[index] = false;
+        operators[index] = 0;
+    }
+    
+    private void evaluatePopulation() {
+        for (int i = 0; i < populationSize; i++) {
+            // Les élites copiées et les enfants mutés sans crossover sont déjà à jour
+            if (!evaluated[i]) {
+                fitness[i] = calculateFitness(i);
+                evaluated[i] = true;
+                evaluations++;
+            }
+        }
+    }
+    
+    private int calculateFitness(int index) {
+        // Fitness = nombre de paires de reines en conflit (pas de conflit de colonne avec une permutation)
+        return Permutations.conflicts(genes, index * boardSize, boardSize,
+            diagonals, antiDiagonals, index * Permutations.histogramLength(boardSize));
+    }
+    
+    private void rankPopulation() {
+        // Tri de primitifs : pour une population de cette taille, Arrays.sort(long[])
+        // trie sur place sans allouer
+        for (int i = 0; i < populationSize; i++) {
+            sortKeys[i] = ((long) fitness[i] << 32) | i;
+        }
+        Arrays.sort(sortKeys, 0, populationSize);
+        for (int i = 0; i < populationSize; i++) {
+            ranking[i] = (int) sortKeys[i];
         }
-        return conflicts;
     }
     
-    private Individual tournamentSelection(List<Individual> population) {
-        Individual best = population.get(random.nextInt(population.size()));
+    private int tournamentSelection() {
+        int best = random.nextInt(populationSize);
         
-        for (int i = 1; i < TOURNAMENT_SIZE; i++) {
-            Individual candidate = population.get(random.nextInt(population.size()));
-            if (candidate.fitness < best.fitness) {
+        for (int i = 1; i < config.getTournamentSize(); i++) {
+            int candidate = random.nextInt(populationSize);
+            if (fitness[candidate] < fitness[best]) {
                 best = candidate;
             }
         }
@@ -156,13 +554,10 @@ public class GeneticAlgorithm implements SearchAlgorithm {
     }
     
     // PMX Crossover (Partially Mapped Crossover) - maintient la permutation
-    private Individual pmxCrossover(Individual parent1, Individual parent2) {
-        int size = parent1.genes.length;
-        Individual child = new Individual(size);
-        
+    private void pmxCrossover(int parent1, int parent2, int child) {
         // Sélectionner deux points de crossover
-        int point1 = random.nextInt(size);
-        int point2 = random.nextInt(size);
+        int point1 = random.nextInt(boardSize);
+        int point2 = random.nextInt(boardSize);
         
         if (point1 > point2) {
             int temp = point1;
@@ -170,92 +565,75 @@ public class GeneticAlgorithm implements SearchAlgorithm {
             point2 = temp;
         }
         
-        // Initialiser avec -1
-        for (int i = 0; i < size; i++) {
-            child.genes[i] = -1;
-        }
-        
-        // Copier le segment du parent1
-        for (int i = point1; i <= point2; i++) {
-            child.genes[i] = parent1.genes[i];
-        }
-        
-        // Remplir le reste avec parent2 en évitant les doublons
-        for (int i = 0; i < size; i++) {
-            if (child.genes[i] == -1) {
-                int value = parent2.genes[i];
-                
-                // Chercher une position valide
-                while (contains(child.genes, value)) {
-                    int idx = indexOf(parent2.genes, value);
-                    value = parent1.genes[idx];
-                }
-                
-                child.genes[i] = value;
-            }
-        }
-        
-        return child;
+        Permutations.pmx(genes, parent1 * boardSize, genes, parent2 * boardSize,
+            nextGenes, child * boardSize, boardSize, point1, point2, position);
+        nextFitness[child] = Integer.MAX_VALUE;
+        nextEvaluated[child] = false;
     }
     
-    // Swap Mutation - échange deux positions
-    private void swapMutation(Individual individual) {
-        int size = individual.genes.length;
-        int pos1 = random.nextInt(size);
-        int pos2 = random.nextInt(size);
+    // Swap Mutation - échange deux positions de l'individu (dans la génération suivante)
+    private void swapMutation(int index) {
+        int pos1 = random.nextInt(boardSize);
+        int pos2 = random.nextInt(boardSize);
         
-        int temp = individual.genes[pos1];
-        individual.genes[pos1] = individual.genes[pos2];
-        individual.genes[pos2] = temp;
+        int offset = index * boardSize;
+        if (nextEvaluated[index]) {
+            // Évaluation delta en O(1) sur les histogrammes du parent copié
+            nextFitness[index] += Permutations.swap(nextGenes, offset, boardSize, pos1, pos2,
+                nextDiagonals, nextAntiDiagonals, index * Permutations.histogramLength(boardSize));
+        } else {
+            int temp = nextGenes[offset + pos1];
+            nextGenes[offset + pos1] = nextGenes[offset + pos2];
+            nextGenes[offset + pos2] = temp;
+        }
     }
     
-    private boolean contains(int[] array, int value) {
-        for (int v : array) {
-            if (v == value) return true;
+    private void copyToNext(int from, int to) {
+        System.arraycopy(genes, from * boardSize, nextGenes, to * boardSize, boardSize);
+        nextFitness[to] = fitness[from];
+        nextEvaluated[to] = evaluated[from];
+        if (evaluated[from]) {
+            int histogram = Permutations.histogramLength(boardSize);
+            System.arraycopy(diagonals, from * histogram, nextDiagonals, to * histogram, histogram);
+            System.arraycopy(antiDiagonals, from * histogram, nextAntiDiagonals, to * histogram, histogram);
         }
-        return false;
     }
     
-    private int indexOf(int[] array, int value) {
-        for (int i = 0; i < array.length; i++) {
-            if (array[i] == value) return i;
-        }
-        return -1;
+    private void swapBuffers() {
+        int[] tempInts = genes;
+        genes = nextGenes;
+        nextGenes = tempInts;
+        
+        tempInts = fitness;
+        fitness = nextFitness;
+        nextFitness = tempInts;
+        
+        boolean[] tempFlags = evaluated;
+        evaluated = nextEvaluated;
+        nextEvaluated = tempFlags;
+        
+        tempInts = diagonals;
+        diagonals = nextDiagonals;
+        nextDiagonals = tempInts;
+        
+        tempInts = antiDiagonals;
+        antiDiagonals = nextAntiDiagonals;
+        nextAntiDiagonals = tempInts;
+        
+        tempInts = parentFitness;
+        parentFitness = nextParentFitness;
+        nextParentFitness = tempInts;
+        
+        byte[] tempOperators = operators;
+        operators = nextOperators;
+        nextOperators = tempOperators;
     }
     
-    private Board createBoard(Individual individual, int boardSize) {
+    static Board createBoard(int[] genes, int boardSize) {
         Board board = new Board(boardSize);
         for (int row = 0; row < boardSize; row++) {
-            board.placeQueen(row, individual.genes[row]);
+            board.placeQueen(row, genes[row]);
         }
         return board;
     }
-    
-    // Classe interne pour représenter un individu
-    private class Individual {
-        int[] genes;  // Permutation: genes[i] = colonne de la reine à la ligne i
-        int fitness;
-        
-        Individual(int size) {
-            this.genes = new int[size];
-            
-            // Initialisation avec une permutation aléatoire
-            List<Integer> columns = new ArrayList<>();
-            for (int i = 0; i < size; i++) {
-                columns.add(i);
-            }
-            Collections.shuffle(columns, random);
-            
-            for (int i = 0; i < size; i++) {
-                genes[i] = columns.get(i);
-            }
-            
-            this.fitness = Integer.MAX_VALUE;
-        }
-        
-        Individual(Individual other) {
-            this.genes = other.genes.clone();
-            this.fitness = other.fitness;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,214 @@
+package src.algorithm;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Paramètres de l'algorithme génétique (une île) et du modèle en îles
+public class GeneticConfig {
+    // Budget par enfant de GENETIC_MEMETIC : au-delà, le temps gagné en générations est
+    // reperdu en recherche locale (mesuré de N = 20 à 5000)
+    public static final int MEMETIC_STEPS = 1;
+    
+    public enum MigrationTopology {
+        RING,    // l'île i envoie vers l'île i + 1
+        RANDOM   // l'île cible est tirée au hasard à chaque migration
+    }
+    
+    private int populationSize = 200;
+    private int eliteSize = 5;
+    private int maxGenerations = 50000;
+    
+    // Taux de départ des opérateurs, fixes si le contrôle adaptatif est désactivé
+    private double mutationRate = 0.15;
+    private double crossoverRate = 0.85;
+    private int tournamentSize = 5;
+    
+    // Contrôle adaptatif : taux ajustés selon le succès des opérateurs, redémarrage quand
+    // l'entropie des gènes passe sous diversityThreshold (0 à 1), réparation locale du
+    // meilleur individu pendant la stagnation
+    private boolean adaptive = true;
+    private double diversityThreshold = 0.25;
+    // Échanges par réparation : -1 pour 2 × N, 0 pour aucune réparation
+    private int repairSteps = -1;
+    
+    // Mode mémétique : échanges de recherche locale appliqués à chaque enfant (0 : désactivé)
+    private int localSearchSteps = 0;
+    
+    private int islandCount = Runtime.getRuntime().availableProcessors();
+    private int migrationInterval = 50;
+    private int migrationSize = 2;
+    private MigrationTopology topology = MigrationTopology.RING;
+    
+    // Sans graine fixée, chaque exécution en tire une nouvelle (rapportée dans SearchResult)
+    private boolean seeded = false;
+    private long seed;
+    
+    public int getPopulationSize() {
+        return populationSize;
+    }
+    
+    public void setPopulationSize(int populationSize) {
+        if (populationSize < 2) {
+            throw new IllegalArgumentException("Population trop petite: " + populationSize);
+        }
+        this.populationSize = populationSize;
+    }
+    
+    public int getEliteSize() {
+        return eliteSize;
+    }
+    
+    public void setEliteSize(int eliteSize) {
+        if (eliteSize < 0) {
+            throw new IllegalArgumentException("Taille d'élite invalide: " + eliteSize);
+        }
+        this.eliteSize = eliteSize;
+    }
+    
+    public int getMaxGenerations() {
+        return maxGenerations;
+    }
+    
+    public void setMaxGenerations(int maxGenerations) {
+        this.maxGenerations = maxGenerations;
+    }
+    
+    public double getMutationRate() {
+        return mutationRate;
+    }
+    
+    public void setMutationRate(double mutationRate) {
+        if (mutationRate < 0 || mutationRate > 1) {
+            throw new IllegalArgumentException("Taux de mutation invalide: " + mutationRate);
+        }
+        this.mutationRate = mutationRate;
+    }
+    
+    public double getCrossoverRate() {
+        return crossoverRate;
+    }
+    
+    public void setCrossoverRate(double crossoverRate) {
+        if (crossoverRate < 0 || crossoverRate > 1) {
+            throw new IllegalArgumentException("Taux de crossover invalide: " + crossoverRate);
+        }
+        this.crossoverRate = crossoverRate;
+    }
+    
+    public int getTournamentSize() {
+        return tournamentSize;
+    }
+    
+    public void setTournamentSize(int tournamentSize) {
+        if (tournamentSize < 1) {
+            throw new IllegalArgumentException("Taille de tournoi invalide: " + tournamentSize);
+        }
+        this.tournamentSize = tournamentSize;
+    }
+    
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+    
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+    
+    public double getDiversityThreshold() {
+        return diversityThreshold;
+    }
+    
+    public void setDiversityThreshold(double diversityThreshold) {
+        if (diversityThreshold < 0 || diversityThreshold > 1) {
+            throw new IllegalArgumentException("Seuil de diversité invalide: " + diversityThreshold);
+        }
+        this.diversityThreshold = diversityThreshold;
+    }
+    
+    public int getRepairSteps() {
+        return repairSteps;
+    }
+    
+    public void setRepairSteps(int repairSteps) {
+        if (repairSteps < -1) {
+            throw new IllegalArgumentException("Nombre d'échanges invalide: " + repairSteps);
+        }
+        this.repairSteps = repairSteps;
+    }
+    
+    // Échanges effectifs d'une réparation pour cette taille d'échiquier
+    int repairSteps(int boardSize) {
+        return repairSteps < 0 ? 2 * boardSize : repairSteps;
+    }
+    
+    public int getLocalSearchSteps() {
+        return localSearchSteps;
+    }
+    
+    public void setLocalSearchSteps(int localSearchSteps) {
+        if (localSearchSteps < 0) {
+            throw new IllegalArgumentException("Budget de recherche locale invalide: " + localSearchSteps);
+        }
+        this.localSearchSteps = localSearchSteps;
+    }
+    
+    public int getIslandCount() {
+        return islandCount;
+    }
+    
+    public void setIslandCount(int islandCount) {
+        if (islandCount < 1) {
+            throw new IllegalArgumentException("Nombre d'îles invalide: " + islandCount);
+        }
+        this.islandCount = islandCount;
+    }
+    
+    // Nombre de générations entre deux migrations
+    public int getMigrationInterval() {
+        return migrationInterval;
+    }
+    
+    public void setMigrationInterval(int migrationInterval) {
+        if (migrationInterval < 1) {
+            throw new IllegalArgumentException("Intervalle de migration invalide: " + migrationInterval);
+        }
+        this.migrationInterval = migrationInterval;
+    }
+    
+    // Nombre de meilleurs individus envoyés à chaque migration
+    public int getMigrationSize() {
+        return migrationSize;
+    }
+    
+    public void setMigrationSize(int migrationSize) {
+        if (migrationSize < 0) {
+            throw new IllegalArgumentException("Taille de migration invalide: " + migrationSize);
+        }
+        this.migrationSize = migrationSize;
+    }
+    
+    public MigrationTopology getTopology() {
+        return topology;
+    }
+    
+    public void setTopology(MigrationTopology topology) {
+        this.topology = topology;
+    }
+    
+    public boolean hasSeed() {
+        return seeded;
+    }
+    
+    public long getSeed() {
+        return seed;
+    }
+    
+    public void setSeed(long seed) {
+        this.seeded = true;
+        this.seed = seed;
+    }
+    
+    // Graine de l'exécution suivante : celle fixée, sinon une nouvelle
+    long nextSeed() {
+        return seeded ? seed : ThreadLocalRandom.current().nextLong();
+    }
+}
@@ -0,0 +1,123 @@
+package src.algorithm;
+
+import src.algorithm.heuristic.Heuristic;
+import src.model.Board;
+import src.model.SearchMetrics;
+import src.model.SearchResult;
+
+// IDA* : parcours en profondeur borné par un seuil sur f = g + h, relevé au plus petit f
+// dépassé tant qu'aucune solution n'est trouvée. Mémoire linéaire en N : un plateau, et
+// par niveau la prochaine colonne à essayer et la valeur h (évaluation incrémentale).
+// Les nœuds développés à nouveau dans une itération suivante sont comptés à part.
+public class IDAStarSearch implements SearchAlgorithm {
+    private static final int INFINITE = Integer.MAX_VALUE;
+    
+    private final Heuristic heuristic;
+    
+    public IDAStarSearch(Heuristic heuristic) {
+        this.heuristic = heuristic;
+    }
+    
+    @Override
+    public SearchResult solve(int boardSize, SearchContext context) {
+        MetricsRecorder recorder = new MetricsRecorder();
+        long nodesExplored = 0;
+        long nodesGenerated = 0;
+        long reexpansions = 0;
+        int peakDepth = 0;
+        context.start();
+        recorder.phase("search");
+        
+        Board board = new Board(boardSize);
+        int[] cursors = new int[boardSize + 1];
+        int[] hCosts = new int[boardSize + 1];
+        boolean success = false;
+        boolean stopped = false;
+        
+        hCosts[0] = heuristic.evaluate(board);
+        int threshold = hCosts[0];
+        // Seuil de l'itération précédente : un nœud de f <= previous a déjà été développé
+        int previous = -1;
+        
+        while (threshold != INFINITE && !success && !stopped) {
+            int next = INFINITE;
+            int row = 0;
+            cursors[0] = 0;
+            nodesExplored++;
+            if (previous >= 0) reexpansions++;
+            
+            while (row >= 0) {
+                if (row == boardSize) {
+                    if (board.isComplete()) {
+                        success = true;
+                        break;
+                    }
+                    row = backtrack(board, row);
+                    continue;
+                }
+                if (cursors[row] == boardSize) {
+                    row = backtrack(board, row);
+                    continue;
+                }
+                
+                int col = cursors[row]++;
+                if (!board.isSafe(row, col)) {
+                    continue;
+                }
+                board.placeQueen(row, col);
+                nodesGenerated++;
+                int hCost = heuristic.evaluate(board, hCosts[row], row, col);
+                int fCost = hCost == Heuristic.DEAD_END ? INFINITE : row + 1 + hCost;
+                if (fCost > threshold) {
+                    // Hors contour : candidat pour le seuil suivant
+                    next = Math.min(next, fCost);
+                    board.removeQueen(row);
+                    continue;
+                }
+                
+                row++;
+                hCosts[row] = hCost;
+                cursors[row] = 0;
+                peakDepth = Math.max(peakDepth, row);
+                nodesExplored++;
+                if (fCost <= previous) reexpansions++;
+                
+                if ((nodesExplored & SearchContext.CHECK_MASK) == 0
+                        && context.checkpoint(SearchContext.CHECK_INTERVAL, row, -1)) {
+                    stopped = true;
+                    break;
+                }
+            }
+            
+            if (!success) {
+                // Repartir d'un plateau vide pour l'itération suivante
+                for (int r = 0; r < boardSize; r++) {
+                    board.removeQueen(r);
+                }
+                previous = threshold;
+                threshold = next;
+            }
+        }
+        
+        SearchMetrics metrics = recorder.finish();
+        metrics.setNodesExpanded(nodesExplored);
+        metrics.setNodesGenerated(nodesGenerated);
+        metrics.setReexpansions(reexpansions);
+        // Pile implicite : colonne courante et h par niveau, plus le plateau de travail
+        metrics.setPeakFrontier(peakDepth);
+        metrics.setPeakMemoryBytes(8L * (boardSize + 1) + board.memoryBytes());
+        
+        SearchResult result = new SearchResult(success ? board : null, nodesExplored, recorder.totalMillis(), success);
+        result.setMetrics(metrics);
+        return result;
+    }
+    
+    // Remonte d'un niveau en retirant la reine de la ligne parente
+    private static int backtrack(Board board, int row) {
+        row--;
+        if (row >= 0) {
+            board.removeQueen(row);
+        }
+        return row;
+    }
+}
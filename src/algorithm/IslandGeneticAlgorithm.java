@@ -0,0 +1,168 @@
+package src.algorithm;
+
+import src.model.Board;
+import src.model.SearchMetrics;
+import src.model.SearchResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Modèle en îles : plusieurs populations évoluent chacune sur son thread avec son
+// propre générateur, et échangent périodiquement leurs meilleurs individus.
+// Les générateurs des îles dérivent de la graine, mais l'arrivée des migrants dépend de
+// l'ordonnancement des threads : une exécution n'est rejouable à l'identique qu'avec une île.
+public class IslandGeneticAlgorithm implements SearchAlgorithm {
+    private final GeneticConfig config;
+    
+    public IslandGeneticAlgorithm() {
+        this(new GeneticConfig());
+    }
+    
+    public IslandGeneticAlgorithm(GeneticConfig config) {
+        this.config = config;
+    }
+    
+    @Override
+    public SearchResult solve(int boardSize, SearchContext context) {
+        MetricsRecorder recorder = new MetricsRecorder();
+        context.start();
+        recorder.phase("evolve");
+        long seed = config.nextSeed();
+        SplittableRandom random = new SplittableRandom(seed);
+        
+        int islandCount = config.getIslandCount();
+        
+        // Boîtes aux lettres sans verrou : un lot de migrants en attente par île,
+        // un lot plus récent remplace simplement l'ancien
+        AtomicReferenceArray<int[][]> mailboxes = new AtomicReferenceArray<>(islandCount);
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicReference<int[]> solution = new AtomicReference<>();
+        
+        List<Island> islands = new ArrayList<>();
+        for (int i = 0; i < islandCount; i++) {
+            islands.add(new Island(i, boardSize, random.split(), mailboxes, stop, solution, context));
+        }
+        
+        ExecutorService executor = Executors.newFixedThreadPool(islandCount);
+        try {
+            List<Future<Void>> futures = executor.invokeAll(islands);
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stop.set(true);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Échec d'une île", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        long nodesExplored = 0;
+        long islandAllocated = 0;
+        for (Island island : islands) {
+            nodesExplored += island.algorithm.getNodesExplored();
+            islandAllocated += island.allocated;
+        }
+        
+        recorder.phase("build");
+        int[] genes = solution.get();
+        Board board = genes != null ? GeneticAlgorithm.createBoard(genes, boardSize) : null;
+        
+        SearchMetrics metrics = recorder.finish(islandAllocated);
+        for (Island island : islands) {
+            island.algorithm.recordMetrics(metrics);
+        }
+        
+        SearchResult result = new SearchResult(board, nodesExplored, recorder.totalMillis(), genes != null, seed);
+        result.setMetrics(metrics);
+        return result;
+    }
+    
+    private class Island implements Callable<Void> {
+        private final int index;
+        private final int boardSize;
+        private final SplittableRandom random;
+        private final GeneticAlgorithm algorithm;
+        private final AtomicReferenceArray<int[][]> mailboxes;
+        private final AtomicBoolean stop;
+        private final AtomicReference<int[]> solution;
+        private final SearchContext context;
+        // Octets alloués par le thread de l'île pendant son exécution
+        private long allocated;
+        
+        Island(int index, int boardSize, SplittableRandom random, AtomicReferenceArray<int[][]> mailboxes,
+               AtomicBoolean stop, AtomicReference<int[]> solution, SearchContext context) {
+            this.index = index;
+            this.boardSize = boardSize;
+            this.random = random;
+            this.algorithm = new GeneticAlgorithm(config, random.split());
+            this.mailboxes = mailboxes;
+            this.stop = stop;
+            this.solution = solution;
+            this.context = context;
+        }
+        
+        @Override
+        public Void call() {
+            long startAllocated = MetricsRecorder.allocatedBytes();
+            try {
+                evolve();
+            } finally {
+                allocated = Math.max(0, MetricsRecorder.allocatedBytes() - startAllocated);
+            }
+            return null;
+        }
+        
+        private void evolve() {
+            algorithm.initialize(boardSize);
+            
+            for (int generation = 1; generation <= config.getMaxGenerations() && !stop.get(); generation++) {
+                if (algorithm.evolve()) {
+                    // Première île à trouver : elle arrête toutes les autres
+                    if (solution.compareAndSet(null, algorithm.solutionGenes())) {
+                        stop.set(true);
+                    }
+                    break;
+                }
+                
+                // Le contexte est partagé : annulation ou budget arrêtent toutes les îles
+                if (context.checkpoint(config.getPopulationSize(), -1, algorithm.getBestFitness())) {
+                    stop.set(true);
+                    break;
+                }
+                
+                if (generation % config.getMigrationInterval() == 0 && mailboxes.length() > 1) {
+                    migrate();
+                }
+            }
+        }
+        
+        private void migrate() {
+            int islandCount = mailboxes.length();
+            int target;
+            if (config.getTopology() == GeneticConfig.MigrationTopology.RING) {
+                target = (index + 1) % islandCount;
+            } else {
+                target = (index + 1 + random.nextInt(islandCount - 1)) % islandCount;
+            }
+            
+            if (config.getMigrationSize() > 0) {
+                mailboxes.set(target, algorithm.bestGenes(config.getMigrationSize()));
+            }
+            
+            int[][] migrants = mailboxes.getAndSet(index, null);
+            if (migrants != null) {
+                algorithm.immigrate(migrants);
+            }
+        }
+    }
+}
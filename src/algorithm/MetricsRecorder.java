@@ -0,0 +1,84 @@
+package src.algorithm;
+
+import src.model.SearchMetrics;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+// Chronométrage par phases (nanoTime) et mesure des allocations du thread courant,
+// utilisés par les algorithmes pour remplir SearchMetrics
+final class MetricsRecorder {
+    private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+    
+    private final SearchMetrics metrics = new SearchMetrics();
+    private final long startNanos;
+    private final long startAllocated;
+    private String phase;
+    private long phaseStart;
+    
+    MetricsRecorder() {
+        startNanos = System.nanoTime();
+        startAllocated = allocatedBytes();
+    }
+    
+    SearchMetrics getMetrics() {
+        return metrics;
+    }
+    
+    // Termine la phase en cours et démarre la suivante
+    void phase(String name) {
+        long now = System.nanoTime();
+        endPhase(now);
+        phase = name;
+        phaseStart = now;
+    }
+    
+    // Durée totale en ms, une fois finish() appelé (pour SearchResult.getTimeMillis)
+    long totalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(metrics.getTotalNanos());
+    }
+    
+    // Clôt la mesure ; otherThreadsAllocated s'ajoute aux allocations du thread courant
+    // (threads de travail des algorithmes parallèles)
+    SearchMetrics finish(long otherThreadsAllocated) {
+        long now = System.nanoTime();
+        endPhase(now);
+        phase = null;
+        metrics.setTotalNanos(now - startNanos);
+        long allocated = allocatedBytes();
+        if (allocated >= 0 && startAllocated >= 0) {
+            metrics.setAllocatedBytes(allocated - startAllocated + otherThreadsAllocated);
+        }
+        return metrics;
+    }
+    
+    SearchMetrics finish() {
+        return finish(0);
+    }
+    
+    private void endPhase(long now) {
+        if (phase != null) {
+            metrics.addPhaseNanos(phase, now - phaseStart);
+        }
+    }
+    
+    // Octets alloués depuis sa création par le thread courant, -1 si non mesurable
+    static long allocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+    
+    static long allocatedBytes(Thread thread) {
+        return THREADS == null ? -1 : THREADS.getThreadAllocatedBytes(thread.threadId());
+    }
+    
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads;
+            }
+        }
+        return null;
+    }
+}
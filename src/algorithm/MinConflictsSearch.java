@@ -0,0 +1,192 @@
+package src.algorithm;
+
+import src.model.Board;
+import src.model.SearchMetrics;
+import src.model.SearchResult;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Recherche locale dirigée par les conflits sur une permutation (pas de conflit de colonne).
+// Les compteurs de diagonales sont des int[] : chaque échange s'évalue en O(1),
+// la mémoire reste linéaire en N (utilisable jusqu'à N = 10^6 et au-delà).
+public class MinConflictsSearch implements SearchAlgorithm {
+    // Passes sans amélioration avant de repartir d'une nouvelle configuration
+    private static final int MAX_STALLED_PASSES = 20;
+    // Échanges essayés par ligne attaquée au cours d'une passe
+    private static final int SWAP_TRIES = 64;
+    private static final int MAX_RESTARTS = 100;
+    // Tirages aléatoires par ligne pendant la construction gloutonne
+    private static final int GREEDY_TRIES = 32;
+    
+    private final boolean seeded;
+    private final long seed;
+    private SplittableRandom random;
+    private int[] queens;
+    private int[] diagonals;      // row - col + N - 1
+    private int[] antiDiagonals;  // row + col
+    private int[] attacked;
+    private long collisions;
+    private long iterations;
+    private SearchContext context;
+    
+    public MinConflictsSearch() {
+        this.seeded = false;
+        this.seed = 0;
+    }
+    
+    // Exécutions reproductibles : même graine, même suite de réparations
+    public MinConflictsSearch(long seed) {
+        this.seeded = true;
+        this.seed = seed;
+    }
+    
+    @Override
+    public SearchResult solve(int boardSize, SearchContext context) {
+        MetricsRecorder recorder = new MetricsRecorder();
+        iterations = 0;
+        this.context = context;
+        context.start();
+        long runSeed = seeded ? seed : ThreadLocalRandom.current().nextLong();
+        random = new SplittableRandom(runSeed);
+        
+        // Pas de solution pour N = 2 et N = 3
+        boolean success = boardSize == 1 || boardSize >= 4;
+        if (success) {
+            success = false;
+            for (int restart = 0; restart < MAX_RESTARTS && !success && !context.isStopped(); restart++) {
+                recorder.phase("init");
+                initialize(boardSize);
+                recorder.phase("repair");
+                success = repair(boardSize);
+            }
+            recorder.phase("build");
+        }
+        
+        Board board = null;
+        if (success) {
+            board = new Board(boardSize);
+            for (int row = 0; row < boardSize; row++) {
+                board.placeQueen(row, queens[row]);
+            }
+        }
+        
+        // Une itération de réparation (échange évalué) compte pour un nœud
+        SearchMetrics metrics = recorder.finish();
+        metrics.setNodesExpanded(iterations);
+        metrics.setNodesGenerated(iterations);
+        
+        SearchResult result = new SearchResult(board, iterations, recorder.totalMillis(), success, runSeed);
+        result.setMetrics(metrics);
+        return result;
+    }
+    
+    // Construction gloutonne : pour chaque ligne, on tire une colonne restante
+    // jusqu'à en trouver une sans conflit diagonal avec les lignes déjà placées.
+    private void initialize(int size) {
+        if (queens == null || queens.length != size) {
+            queens = new int[size];
+            diagonals = new int[2 * size - 1];
+            antiDiagonals = new int[2 * size - 1];
+        } else {
+            Arrays.fill(diagonals, 0);
+            Arrays.fill(antiDiagonals, 0);
+        }
+        for (int i = 0; i < size; i++) {
+            queens[i] = i;
+        }
+        collisions = 0;
+        
+        for (int row = 0; row < size; row++) {
+            // La construction est longue pour N très grand : elle vérifie aussi l'annulation
+            // (la configuration inachevée est ensuite abandonnée par repair)
+            if ((row & SearchContext.CHECK_MASK) == 0 && context.checkpoint(0, row, -1)) {
+                return;
+            }
+            
+            for (int attempt = 0; attempt < GREEDY_TRIES; attempt++) {
+                swap(row, row + random.nextInt(size - row));
+                int col = queens[row];
+                if (diagonals[row - col + size - 1] == 0 && antiDiagonals[row + col] == 0) {
+                    break;
+                }
+            }
+            collisions += add(row, queens[row], size);
+        }
+    }
+    
+    // Échanges aléatoires entre une ligne attaquée et une autre, acceptés s'ils
+    // réduisent le nombre de collisions. Seules les lignes attaquées sont visitées :
+    // la liste est reconstruite par un balayage O(N) à la fin de chaque passe.
+    // Retourne true si une solution est atteinte.
+    private boolean repair(int size) {
+        if (attacked == null || attacked.length != size) {
+            attacked = new int[size];
+        }
+        
+        int stalledPasses = 0;
+        while (collisions > 0 && stalledPasses < MAX_STALLED_PASSES && !context.isStopped()) {
+            long before = collisions;
+            
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                if (isAttacked(row, size)) attacked[count++] = row;
+            }
+            
+            for (int k = 0; k < count && collisions > 0; k++) {
+                int i = attacked[k];
+                for (int attempt = 0; attempt < SWAP_TRIES && isAttacked(i, size); attempt++) {
+                    iterations++;
+                    if ((iterations & SearchContext.CHECK_MASK) == 0
+                            && context.checkpoint(SearchContext.CHECK_INTERVAL, -1, (int) Math.min(collisions, Integer.MAX_VALUE))) {
+                        return false;
+                    }
+                    int j = random.nextInt(size);
+                    if (j == i) continue;
+                    
+                    long delta = swapDelta(i, j, size);
+                    if (delta < 0) {
+                        collisions += delta;
+                    } else {
+                        // Annuler l'échange
+                        swapDelta(i, j, size);
+                    }
+                }
+            }
+            stalledPasses = collisions < before ? 0 : stalledPasses + 1;
+        }
+        return collisions == 0 && !context.isStopped();
+    }
+    
+    private boolean isAttacked(int row, int size) {
+        int col = queens[row];
+        return diagonals[row - col + size - 1] > 1 || antiDiagonals[row + col] > 1;
+    }
+    
+    // Échange les colonnes des lignes i et j en mettant à jour les compteurs ; O(1)
+    private long swapDelta(int i, int j, int size) {
+        int ci = queens[i];
+        int cj = queens[j];
+        long delta = -remove(i, ci, size) - remove(j, cj, size);
+        delta += add(i, cj, size) + add(j, ci, size);
+        queens[i] = cj;
+        queens[j] = ci;
+        return delta;
+    }
+    
+    // Nombre de paires créées en ajoutant une reine en (row, col)
+    private int add(int row, int col, int size) {
+        return diagonals[row - col + size - 1]++ + antiDiagonals[row + col]++;
+    }
+    
+    // Nombre de paires supprimées en retirant la reine en (row, col)
+    private int remove(int row, int col, int size) {
+        return --diagonals[row - col + size - 1] + --antiDiagonals[row + col];
+    }
+    
+    private void swap(int i, int j) {
+        int temp = queens[i];
+        queens[i] = queens[j];
+        queens[j] = temp;
+    }
+}
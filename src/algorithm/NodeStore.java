@@ -0,0 +1,184 @@
+package src.algorithm;
+
+import java.util.Arrays;
+
+// Nœuds de A* sur des tableaux primitifs : état compacté (PackedStates) rangé à plat,
+// table de hachage à adressage ouvert sur les indices de nœuds pour éliminer les
+// doublons, et tas binaire d'indices pour la liste ouverte. Pas de lien parent.
+final class NodeStore {
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    private final int width;
+    
+    // Pool de nœuds : l'indice d'un nœud sert aussi de numéro de séquence
+    private long[] states;
+    private int[] depths;
+    private int[] fCosts;
+    private int[] hCosts;
+    private int count;
+    
+    // Table des états déjà générés (indice + 1, 0 = case vide), sondage linéaire
+    private int[] table;
+    private int tableMask;
+    
+    private int[] heap;
+    private int heapSize;
+    private int peakHeapSize;
+    
+    NodeStore(int width) {
+        this.width = width;
+        this.states = new long[INITIAL_CAPACITY * width];
+        this.depths = new int[INITIAL_CAPACITY];
+        this.fCosts = new int[INITIAL_CAPACITY];
+        this.hCosts = new int[INITIAL_CAPACITY];
+        this.table = new int[2 * INITIAL_CAPACITY];
+        this.tableMask = table.length - 1;
+        this.heap = new int[INITIAL_CAPACITY];
+    }
+    
+    int size() {
+        return count;
+    }
+    
+    int getDepth(int node) {
+        return depths[node];
+    }
+    
+    int getFCost(int node) {
+        return fCosts[node];
+    }
+    
+    int getHCost(int node) {
+        return hCosts[node];
+    }
+    
+    // Octets des tableaux du pool, de la table et du tas (capacité allouée)
+    long memoryBytes() {
+        return 8L * states.length + 4L * (depths.length + fCosts.length + hCosts.length + table.length + heap.length);
+    }
+    
+    void copyState(int node, long[] target) {
+        System.arraycopy(states, node * width, target, 0, width);
+    }
+    
+    // Ajoute l'état s'il n'a jamais été généré ; renvoie son indice, ou -1 si doublon
+    int add(long[] state, int depth, int gCost, int hCost) {
+        int slot = hash(state, 0, depth) & tableMask;
+        while (table[slot] != 0) {
+            if (sameState(table[slot] - 1, state, depth)) {
+                return -1;
+            }
+            slot = (slot + 1) & tableMask;
+        }
+        
+        if (count == depths.length) {
+            grow();
+        }
+        int node = count++;
+        System.arraycopy(state, 0, states, node * width, width);
+        depths[node] = depth;
+        fCosts[node] = gCost + hCost;
+        hCosts[node] = hCost;
+        table[slot] = node + 1;
+        
+        // Facteur de charge maximal 1/2
+        if (2 * count > table.length) {
+            rehash();
+        }
+        return node;
+    }
+    
+    private boolean sameState(int node, long[] state, int depth) {
+        if (depths[node] != depth) return false;
+        int base = node * width;
+        for (int i = 0; i < width; i++) {
+            if (states[base + i] != state[i]) return false;
+        }
+        return true;
+    }
+    
+    private int hash(long[] state, int offset, int depth) {
+        long h = depth;
+        for (int i = 0; i < width; i++) {
+            h = (h ^ state[offset + i]) * 0x9E3779B97F4A7C15L;
+        }
+        return (int) (h ^ (h >>> 32));
+    }
+    
+    private void grow() {
+        int capacity = 2 * depths.length;
+        states = Arrays.copyOf(states, Math.multiplyExact(capacity, width));
+        depths = Arrays.copyOf(depths, capacity);
+        fCosts = Arrays.copyOf(fCosts, capacity);
+        hCosts = Arrays.copyOf(hCosts, capacity);
+    }
+    
+    private void rehash() {
+        table = new int[2 * table.length];
+        tableMask = table.length - 1;
+        for (int node = 0; node < count; node++) {
+            int slot = hash(states, node * width, depths[node]) & tableMask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & tableMask;
+            }
+            table[slot] = node + 1;
+        }
+    }
+    
+    int openSize() {
+        return heapSize;
+    }
+    
+    // Taille maximale atteinte par la liste ouverte
+    int peakOpen() {
+        return peakHeapSize;
+    }
+    
+    boolean isEmpty() {
+        return heapSize == 0;
+    }
+    
+    void push(int node) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, 2 * heap.length);
+        }
+        int i = heapSize++;
+        peakHeapSize = Math.max(peakHeapSize, heapSize);
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(node, heap[parent])) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = node;
+    }
+    
+    int poll() {
+        int top = heap[0];
+        int last = heap[--heapSize];
+        int i = 0;
+        int half = heapSize >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < heapSize && before(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!before(heap[child], last)) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        if (heapSize > 0) {
+            heap[i] = last;
+        }
+        return top;
+    }
+    
+    // Ordre de la liste ouverte : f croissant, puis h croissant, puis le plus profond,
+    // puis le plus récent (déterministe)
+    private boolean before(int a, int b) {
+        if (fCosts[a] != fCosts[b]) return fCosts[a] < fCosts[b];
+        if (hCosts[a] != hCosts[b]) return hCosts[a] < hCosts[b];
+        if (depths[a] != depths[b]) return depths[a] > depths[b];
+        return a > b;
+    }
+}
@@ -0,0 +1,149 @@
+package src.algorithm;
+
+import src.model.Board;
+import src.model.SearchMetrics;
+import src.model.SearchResult;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// BFS niveau par niveau sur une frontière compacte : chaque état est la suite de ses
+// colonnes sur ceil(log2 N) bits par ligne, sans objet Board par nœud. Un niveau qui
+// dépasse le budget de tas déborde dans un fichier projeté en mémoire.
+public class PackedBreadthFirstSearch implements SearchAlgorithm {
+    private final long heapBudgetBytes;
+    private final Path spillDirectory;
+    private long nodesExplored;
+    private long nodesGenerated;
+    private long peakFrontier;
+    
+    public PackedBreadthFirstSearch() {
+        this(Runtime.getRuntime().maxMemory() / 4, Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+    
+    // heapBudgetBytes : mémoire de tas totale pour les deux niveaux en cours
+    public PackedBreadthFirstSearch(long heapBudgetBytes, Path spillDirectory) {
+        this.heapBudgetBytes = heapBudgetBytes;
+        this.spillDirectory = spillDirectory;
+    }
+    
+    @Override
+    public SearchResult solve(int boardSize, SearchContext context) {
+        // Les masques d'un état décodé doivent tenir dans un long
+        if (boardSize < 1 || boardSize > BitmaskBacktracker.MAX_SIZE) {
+            return new BreadthFirstSearch().solve(boardSize, context);
+        }
+        
+        MetricsRecorder recorder = new MetricsRecorder();
+        context.start();
+        
+        try {
+            recorder.phase("search");
+            int[] solution = search(boardSize, context);
+            
+            recorder.phase("build");
+            Board board = null;
+            if (solution != null) {
+                board = new Board(boardSize);
+                for (int row = 0; row < boardSize; row++) {
+                    board.placeQueen(row, solution[row]);
+                }
+            }
+            
+            SearchMetrics metrics = recorder.finish();
+            metrics.setNodesExpanded(nodesExplored);
+            metrics.setNodesGenerated(nodesGenerated);
+            metrics.setPeakFrontier(peakFrontier);
+            
+            SearchResult result = new SearchResult(board, nodesExplored, recorder.totalMillis(), solution != null);
+            result.setMetrics(metrics);
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Échec du débordement de la frontière BFS", e);
+        }
+    }
+    
+    private int[] search(int size, SearchContext context) throws IOException {
+        nodesExplored = 0;
+        nodesGenerated = 1;
+        peakFrontier = 1;
+        int bits = PackedStates.bitsPerRow(size);
+        long full = size == BitmaskBacktracker.MAX_SIZE ? -1L : (1L << size) - 1;
+        int maxWords = PackedStates.words(size, bits);
+        long[] state = new long[maxWords];
+        long[] child = new long[maxWords];
+        int[] queens = new int[size];
+        
+        PackedFrontier current = new PackedFrontier(heapBudgetBytes / 2, spillDirectory);
+        current.append(state, 0);
+        
+        try {
+            for (int level = 0; level < size; level++) {
+                int parentWords = PackedStates.words(level, bits);
+                int childWords = PackedStates.words(level + 1, bits);
+                PackedFrontier next = new PackedFrontier(heapBudgetBytes / 2, spillDirectory);
+                current.startReading();
+                
+                try {
+                    for (long k = 0; k < current.size(); k++) {
+                        current.read(state, parentWords);
+                        nodesExplored++;
+                        
+                        if ((nodesExplored & SearchContext.CHECK_MASK) == 0
+                                && context.checkpoint(SearchContext.CHECK_INTERVAL, level, -1)) {
+                            return null;
+                        }
+                        
+                        // Décoder l'état et reconstruire les masques d'occupation de la ligne suivante
+                        long cols = 0;
+                        long diag = 0;
+                        long anti = 0;
+                        for (int row = 0; row < level; row++) {
+                            int col = PackedStates.get(state, 0, row, bits);
+                            queens[row] = col;
+                            long bit = 1L << col;
+                            cols |= bit;
+                            diag = (diag | bit) << 1;
+                            anti = (anti | bit) >>> 1;
+                        }
+                        
+                        long available = full & ~(cols | diag | anti);
+                        while (available != 0) {
+                            long bit = available & -available;
+                            available ^= bit;
+                            int col = Long.numberOfTrailingZeros(bit);
+                            
+                            // Le premier état complet généré est une solution
+                            if (level + 1 == size) {
+                                queens[level] = col;
+                                nodesGenerated++;
+                                nodesExplored++;
+                                return queens;
+                            }
+                            
+                            System.arraycopy(state, 0, child, 0, parentWords);
+                            if (childWords > parentWords) child[childWords - 1] = 0;
+                            PackedStates.set(child, 0, level, bits, col);
+                            next.append(child, childWords);
+                            nodesGenerated++;
+                        }
+                    }
+                } catch (IOException | RuntimeException e) {
+                    next.close();
+                    throw e;
+                }
+                
+                current.close();
+                current = next;
+                peakFrontier = Math.max(peakFrontier, current.size());
+                if (current.size() == 0) {
+                    return null;
+                }
+            }
+            return null;
+        } finally {
+            current.close();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package src.algorithm;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// Frontière d'un niveau de BFS : suite d'enregistrements de taille fixe (en longs),
+// écrite puis relue séquentiellement. Les données restent dans un long[] jusqu'au
+// budget de tas, puis débordent dans un fichier temporaire projeté en mémoire.
+final class PackedFrontier implements AutoCloseable {
+    // Taille d'une fenêtre de projection du fichier (en longs)
+    private static final int WINDOW_LONGS = 1 << 23;
+    
+    private final long maxHeapLongs;
+    private final Path spillDirectory;
+    
+    private long[] heap = new long[1024];
+    private int heapLongs;
+    private long records;
+    
+    private Path file;
+    private FileChannel channel;
+    private LongBuffer window;
+    private long spilledLongs;
+    private long readPosition;
+    
+    PackedFrontier(long heapBudgetBytes, Path spillDirectory) {
+        this.maxHeapLongs = Math.min(heapBudgetBytes / Long.BYTES, Integer.MAX_VALUE - 8);
+        this.spillDirectory = spillDirectory;
+    }
+    
+    long size() {
+        return records;
+    }
+    
+    boolean hasSpilled() {
+        return spilledLongs > 0;
+    }
+    
+    void append(long[] record, int words) throws IOException {
+        for (int i = 0; i < words; i++) {
+            if (heapLongs < maxHeapLongs) {
+                if (heapLongs == heap.length) {
+                    heap = Arrays.copyOf(heap, (int) Math.min(maxHeapLongs, 2L * heap.length));
+                }
+                heap[heapLongs++] = record[i];
+            } else {
+                if (window == null || !window.hasRemaining()) {
+                    mapWindow(FileChannel.MapMode.READ_WRITE, spilledLongs, WINDOW_LONGS);
+                }
+                window.put(record[i]);
+                spilledLongs++;
+            }
+        }
+        records++;
+    }
+    
+    // Passe de l'écriture à la lecture depuis le début
+    void startReading() {
+        window = null;
+        readPosition = 0;
+    }
+    
+    void read(long[] record, int words) throws IOException {
+        for (int i = 0; i < words; i++) {
+            if (readPosition < heapLongs) {
+                record[i] = heap[(int) readPosition];
+            } else {
+                long spillPosition = readPosition - heapLongs;
+                if (window == null || !window.hasRemaining()) {
+                    mapWindow(FileChannel.MapMode.READ_ONLY, spillPosition,
+                        (int) Math.min(WINDOW_LONGS, spilledLongs - spillPosition));
+                }
+                record[i] = window.get();
+            }
+            readPosition++;
+        }
+    }
+    
+    private void mapWindow(FileChannel.MapMode mode, long position, int longs) throws IOException {
+        if (channel == null) {
+            file = Files.createTempFile(spillDirectory, "bfs-frontier", ".bin");
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE);
+        }
+        window = channel.map(mode, position * Long.BYTES, (long) longs * Long.BYTES)
+            .order(ByteOrder.nativeOrder())
+            .asLongBuffer();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        window = null;
+        heap = null;
+        if (channel != null) {
+            channel.close();
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package src.algorithm;
+
+// Encodage compact d'un placement partiel : la colonne de chaque ligne occupe
+// bitsPerRow(N) bits consécutifs dans un long[] (plusieurs états peuvent partager
+// le même tableau à des offsets différents).
+final class PackedStates {
+    
+    private PackedStates() {
+    }
+    
+    static int bitsPerRow(int size) {
+        return Math.max(1, 32 - Integer.numberOfLeadingZeros(size - 1));
+    }
+    
+    static int words(int rows, int bits) {
+        return (rows * bits + 63) >>> 6;
+    }
+    
+    static int get(long[] state, int offset, int row, int bits) {
+        int position = row * bits;
+        int word = offset + (position >>> 6);
+        int shift = position & 63;
+        long value = state[word] >>> shift;
+        if (shift + bits > 64) {
+            value |= state[word + 1] << (64 - shift);
+        }
+        return (int) (value & ((1L << bits) - 1));
+    }
+    
+    // La zone visée doit être à zéro
+    static void set(long[] state, int offset, int row, int bits, int col) {
+        int position = row * bits;
+        int word = offset + (position >>> 6);
+        int shift = position & 63;
+        state[word] |= (long) col << shift;
+        if (shift + bits > 64) {
+            state[word + 1] |= (long) col >>> (64 - shift);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package src.algorithm;
+
+import src.model.Board;
+import src.model.CountResult;
+import src.model.SearchMetrics;
+import src.model.SearchResult;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Backtracking bitmask parallèle : l'arbre est découpé en sous-arbres indépendants
+// en fixant les k premières lignes, puis exploré sur un ForkJoinPool (vol de tâches).
+public class ParallelSearch implements SearchAlgorithm {
+    // Nombre visé de sous-arbres par thread, pour équilibrer la charge
+    private static final int TASKS_PER_THREAD = 16;
+    
+    private final int parallelism;
+    
+    public ParallelSearch() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+    
+    public ParallelSearch(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallélisme invalide: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+    
+    @Override
+    public SearchResult solve(int boardSize, SearchContext context) {
+        if (boardSize < 1 || boardSize > BitmaskBacktracker.MAX_SIZE) {
+            return new DepthFirstSearch().solve(boardSize, context);
+        }
+        
+        MetricsRecorder recorder = new MetricsRecorder();
+        context.start();
+        
+        recorder.phase("split");
+        Prefixes prefixes = Prefixes.split(boardSize, -1L, parallelism * TASKS_PER_THREAD);
+        AtomicBoolean found = new AtomicBoolean();
+        AtomicReference<int[]> solution = new AtomicReference<>();
+        
+        recorder.phase("search");
+        long[] workerAllocated = new long[1];
+        Partial result = invoke(new SubtreeTask(prefixes, 0, prefixes.count, found, context, queens -> {
+            if (solution.compareAndSet(null, queens.clone())) {
+                found.set(true);
+            }
+            return false;
+        }, null), workerAllocated);
+        
+        long nodes = prefixes.nodesExplored + result.nodesExplored;
+        
+        int[] queens = solution.get();
+        Board board = null;
+        if (queens != null) {
+            board = new Board(boardSize);
+            for (int row = 0; row < boardSize; row++) {
+                board.placeQueen(row, queens[row]);
+            }
+        }
+        
+        SearchMetrics metrics = recorder.finish(workerAllocated[0]);
+        metrics.setNodesExpanded(nodes);
+        metrics.setNodesGenerated(nodes - 1);
+        
+        SearchResult searchResult = new SearchResult(board, nodes, recorder.totalMillis(), queens != null);
+        searchResult.setMetrics(metrics);
+        return searchResult;
+    }
+    
+    // Comptage total et par classe de symétrie, réduit sans verrou par fork/join
+    public CountResult count(int boardSize) {
+        // Avant la découpe en préfixes : l'erreur ne doit pas surgir d'une tâche fork/join
+        BitmaskBacktracker.checkSize(boardSize);
+        long startTime = System.currentTimeMillis();
+        
+        // Même réduction par symétrie que SolutionCounter : moitié gauche + colonne centrale
+        long firstRow = (1L << (boardSize / 2)) - 1;
+        if (boardSize % 2 == 1) {
+            firstRow |= 1L << (boardSize / 2);
+        }
+        Prefixes prefixes = Prefixes.split(boardSize, firstRow, parallelism * TASKS_PER_THREAD);
+        
+        Partial result = invoke(new SubtreeTask(prefixes, 0, prefixes.count, null, null, null, SolutionCounter.Mode.COUNT),
+            new long[1]);
+        
+        long endTime = System.currentTimeMillis();
+        return new CountResult(result.total, result.unique,
+            prefixes.nodesExplored + result.nodesExplored, endTime - startTime, true);
+    }
+    
+    // allocated[0] reçoit les octets alloués par les threads du pool
+    private Partial invoke(SubtreeTask task, long[] allocated) {
+        List<Thread> workers = new CopyOnWriteArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(parallelism, p -> {
+            ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            workers.add(worker);
+            return worker;
+        }, null, false);
+        try {
+            return pool.invoke(task);
+        } finally {
+            for (Thread worker : workers) {
+                allocated[0] += Math.max(0, MetricsRecorder.allocatedBytes(worker));
+            }
+            pool.shutdown();
+        }
+    }
+    
+    // Résultat partiel d'un sous-arbre, propre à chaque tâche
+    private static class Partial {
+        long total;
+        long unique;
+        long nodesExplored;
+        
+        Partial merge(Partial other) {
+            total += other.total;
+            unique += other.unique;
+            nodesExplored += other.nodesExplored;
+            return this;
+        }
+    }
+    
+    @SuppressWarnings("serial")
+    private static class SubtreeTask extends RecursiveTask<Partial> {
+        private final Prefixes prefixes;
+        private final int from;
+        private final int to;
+        private final AtomicBoolean cancelled;
+        private final SearchContext context;
+        private final SolutionListener listener;
+        private final SolutionCounter.Mode countMode;
+        
+        SubtreeTask(Prefixes prefixes, int from, int to, AtomicBoolean cancelled, SearchContext context,
+                    SolutionListener listener, SolutionCounter.Mode countMode) {
+            this.prefixes = prefixes;
+            this.from = from;
+            this.to = to;
+            this.cancelled = cancelled;
+            this.context = context;
+            this.listener = listener;
+            this.countMode = countMode;
+        }
+        
+        @Override
+        protected Partial compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                SubtreeTask left = new SubtreeTask(prefixes, from, mid, cancelled, context, listener, countMode);
+                SubtreeTask right = new SubtreeTask(prefixes, mid, to, cancelled, context, listener, countMode);
+                left.fork();
+                Partial result = right.compute();
+                return result.merge(left.join());
+            }
+            
+            Partial result = new Partial();
+            if (from == to || (cancelled != null && cancelled.get()) || (context != null && context.isStopped())) {
+                return result;
+            }
+            
+            int size = prefixes.size;
+            int depth = prefixes.depth;
+            BitmaskBacktracker engine = new BitmaskBacktracker(size);
+            engine.setCancellation(cancelled);
+            engine.setContext(context);
+            for (int row = 0; row < depth; row++) {
+                engine.setQueen(row, prefixes.queens[from * depth + row]);
+            }
+            
+            SolutionCounter.Tally tally = countMode != null ? new SolutionCounter.Tally(size, countMode, null) : null;
+            engine.search(depth, prefixes.columns[from], prefixes.diagonals[from], prefixes.antiDiagonals[from],
+                -1L, tally != null ? tally : listener);
+            
+            result.nodesExplored = engine.getNodesExplored();
+            if (tally != null) {
+                result.total = tally.total;
+                result.unique = tally.unique;
+            }
+            return result;
+        }
+    }
+    
+    // Ensemble des préfixes valides de profondeur k, stockés dans des tableaux primitifs
+    private static class Prefixes {
+        int size;
+        int depth;
+        int count;
+        long[] columns;
+        long[] diagonals;
+        long[] antiDiagonals;
+        int[] queens;
+        // Nœuds internes (lignes < depth) générés pendant le découpage
+        long nodesExplored;
+        
+        static Prefixes split(int size, long firstRowFilter, int target) {
+            long full = size == BitmaskBacktracker.MAX_SIZE ? -1L : (1L << size) - 1;
+            
+            Prefixes current = new Prefixes();
+            current.size = size;
+            current.count = 1;
+            current.columns = new long[1];
+            current.diagonals = new long[1];
+            current.antiDiagonals = new long[1];
+            current.queens = new int[0];
+            
+            // Développer niveau par niveau jusqu'à avoir assez de sous-arbres
+            while (current.depth < size && current.count > 0 && (current.depth == 0 || current.count < target)) {
+                long filter = current.depth == 0 ? firstRowFilter : -1L;
+                current.nodesExplored += current.count;
+                current = current.expand(full, filter);
+            }
+            return current;
+        }
+        
+        private Prefixes expand(long full, long filter) {
+            int children = 0;
+            for (int i = 0; i < count; i++) {
+                children += Long.bitCount(full & filter & ~(columns[i] | diagonals[i] | antiDiagonals[i]));
+            }
+            
+            Prefixes next = new Prefixes();
+            next.size = size;
+            next.depth = depth + 1;
+            next.count = children;
+            next.nodesExplored = nodesExplored;
+            next.columns = new long[children];
+            next.diagonals = new long[children];
+            next.antiDiagonals = new long[children];
+            next.queens = new int[children * next.depth];
+            
+            int k = 0;
+            for (int i = 0; i < count; i++) {
+                long avail = full & filter & ~(columns[i] | diagonals[i] | antiDiagonals[i]);
+                while (avail != 0) {
+                    long bit = avail & -avail;
+                    avail ^= bit;
+                    
+                    next.columns[k] = columns[i] | bit;
+                    next.diagonals[k] = (diagonals[i] | bit) << 1;
+                    next.antiDiagonals[k] = (antiDiagonals[i] | bit) >>> 1;
+                    System.arraycopy(queens, i * depth, next.queens, k * next.depth, depth);
+                    next.queens[k * next.depth + depth] = Long.numberOfTrailingZeros(bit);
+                    k++;
+                }
+            }
+            return next;
+        }
+    }
+}
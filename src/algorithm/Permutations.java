@@ -0,0 +1,111 @@
+package src.algorithm;
+
+import java.util.SplittableRandom;
+
+// Opérations sur des permutations stockées à plat dans un int[] (genes[offset + row] = colonne).
+// Aucune de ces méthodes n'alloue : les tampons de travail sont fournis par l'appelant.
+public final class Permutations {
+    
+    private Permutations() {
+    }
+    
+    public static int histogramLength(int size) {
+        return 2 * size - 1;
+    }
+    
+    // Permutation aléatoire uniforme (Fisher-Yates) directement sur les primitifs
+    public static void shuffle(int[] genes, int offset, int size, SplittableRandom random) {
+        for (int i = 0; i < size; i++) {
+            genes[offset + i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = genes[offset + i];
+            genes[offset + i] = genes[offset + j];
+            genes[offset + j] = temp;
+        }
+    }
+    
+    // Nombre de paires de reines en conflit diagonal, en O(N). Remplit au passage les
+    // histogrammes des diagonales (row - col + N - 1) et anti-diagonales (row + col)
+    // à partir de histOffset : une diagonale portant k reines donne k(k-1)/2 paires.
+    public static int conflicts(int[] genes, int offset, int size,
+                                int[] diagonals, int[] antiDiagonals, int histOffset) {
+        int length = histogramLength(size);
+        for (int i = 0; i < length; i++) {
+            diagonals[histOffset + i] = 0;
+            antiDiagonals[histOffset + i] = 0;
+        }
+        
+        int conflicts = 0;
+        for (int row = 0; row < size; row++) {
+            int col = genes[offset + row];
+            conflicts += diagonals[histOffset + row - col + size - 1]++;
+            conflicts += antiDiagonals[histOffset + row + col]++;
+        }
+        return conflicts;
+    }
+    
+    // Échange les lignes row1 et row2 et retourne la variation du nombre de conflits,
+    // en O(1) grâce aux histogrammes (qui sont mis à jour)
+    public static int swap(int[] genes, int offset, int size, int row1, int row2,
+                           int[] diagonals, int[] antiDiagonals, int histOffset) {
+        int col1 = genes[offset + row1];
+        int col2 = genes[offset + row2];
+        
+        int delta = -remove(row1, col1, size, diagonals, antiDiagonals, histOffset);
+        delta -= remove(row2, col2, size, diagonals, antiDiagonals, histOffset);
+        delta += add(row1, col2, size, diagonals, antiDiagonals, histOffset);
+        delta += add(row2, col1, size, diagonals, antiDiagonals, histOffset);
+        
+        genes[offset + row1] = col2;
+        genes[offset + row2] = col1;
+        return delta;
+    }
+    
+    // Vrai si la reine de la ligne row partage une diagonale avec une autre (histogrammes à jour)
+    public static boolean inConflict(int[] genes, int offset, int size, int row,
+                                     int[] diagonals, int[] antiDiagonals, int histOffset) {
+        int col = genes[offset + row];
+        return diagonals[histOffset + row - col + size - 1] > 1 || antiDiagonals[histOffset + row + col] > 1;
+    }
+    
+    // PMX (Partially Mapped Crossover) en O(N) : le segment [point1, point2] vient de
+    // parent1, le reste de parent2 en suivant la correspondance du segment.
+    // position est un tampon de taille N (index des valeurs dans parent1).
+    public static void pmx(int[] parent1, int offset1, int[] parent2, int offset2,
+                           int[] child, int childOffset, int size, int point1, int point2, int[] position) {
+        for (int i = 0; i < size; i++) {
+            position[parent1[offset1 + i]] = i;
+        }
+        
+        // Copier le segment du parent1
+        for (int i = point1; i <= point2; i++) {
+            child[childOffset + i] = parent1[offset1 + i];
+        }
+        
+        // Remplir le reste avec parent2 : une valeur déjà présente dans le segment est
+        // remplacée par sa correspondante dans parent2, jusqu'à sortir du segment
+        for (int i = 0; i < size; i++) {
+            if (i >= point1 && i <= point2) continue;
+            
+            int value = parent2[offset2 + i];
+            int index = position[value];
+            while (index >= point1 && index <= point2) {
+                value = parent2[offset2 + index];
+                index = position[value];
+            }
+            child[childOffset + i] = value;
+        }
+    }
+    
+    // Paires créées en ajoutant une reine en (row, col)
+    private static int add(int row, int col, int size, int[] diagonals, int[] antiDiagonals, int histOffset) {
+        return diagonals[histOffset + row - col + size - 1]++ + antiDiagonals[histOffset + row + col]++;
+    }
+    
+    // Paires supprimées en retirant la reine en (row, col)
+    private static int remove(int row, int col, int size, int[] diagonals, int[] antiDiagonals, int histOffset) {
+        return --diagonals[histOffset + row - col + size - 1] + --antiDiagonals[histOffset + row + col];
+    }
+}
@@ -0,0 +1,207 @@
+package src.algorithm;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Historique des courses du portefeuille, par classe de taille et par algorithme :
+// nombre de courses, de victoires, et moyenne glissante du log du temps de résolution.
+// Sert à choisir quels algorithmes lancer et combien de fois. Persistant si un
+// fichier est donné (écriture atomique, comme le niveau disque de ResultCache).
+public class PortfolioHistory {
+    private static final int MAGIC = 0x4E515048; // "NQPH"
+    private static final byte VERSION = 1;
+    // Poids d'une nouvelle mesure dans la moyenne glissante
+    private static final double ALPHA = 0.3;
+    // Courses avant de faire confiance à l'estimation d'un algorithme
+    private static final int MIN_RUNS = 2;
+    // Un algorithme qui gagne au moins cette part des courses est lancé seul
+    private static final double DOMINANT_WIN_RATE = 0.9;
+    private static final int DOMINANT_MIN_RUNS = 5;
+    // Pénalités (en log) des courses perdues ou échouées : le vrai temps est au moins celui observé
+    private static final double LOST_PENALTY = Math.log(2);
+    private static final double FAILED_PENALTY = Math.log(8);
+    
+    public enum Outcome { WON, LOST, FAILED }
+    
+    private static final class Stats {
+        long runs;
+        long wins;
+        double logMillis;
+    }
+    
+    private final Path file;
+    private final Map<Integer, EnumMap<AlgorithmType, Stats>> buckets = new HashMap<>();
+    
+    public PortfolioHistory() {
+        this.file = null;
+    }
+    
+    // Charge l'historique s'il existe ; save() le réécrit
+    public PortfolioHistory(Path file) {
+        this.file = file;
+        load();
+    }
+    
+    // Tailles exactes jusqu'à 32, puis une classe par puissance de deux
+    static int bucket(int boardSize) {
+        return boardSize <= 32 ? boardSize : 32 + (31 - Integer.numberOfLeadingZeros(boardSize));
+    }
+    
+    public synchronized void record(int boardSize, AlgorithmType type, long elapsedNanos, Outcome outcome) {
+        Stats stats = buckets.computeIfAbsent(bucket(boardSize), b -> new EnumMap<>(AlgorithmType.class))
+            .computeIfAbsent(type, t -> new Stats());
+        double sample = Math.log1p(elapsedNanos / 1e6);
+        if (outcome == Outcome.LOST) sample += LOST_PENALTY;
+        if (outcome == Outcome.FAILED) sample += FAILED_PENALTY;
+        
+        stats.logMillis = stats.runs == 0 ? sample : stats.logMillis + ALPHA * (sample - stats.logMillis);
+        stats.runs++;
+        if (outcome == Outcome.WON) stats.wins++;
+    }
+    
+    // Algorithmes à lancer et nombre d'exécutions de chacun, une par thread (ordre de priorité).
+    // Un algorithme déterministe n'est lancé qu'une fois : une copie referait la même recherche.
+    // Un algorithme qui domine la classe de taille est lancé seul (sur tous les threads s'il est
+    // stochastique) ; sinon les meilleurs estimés et ceux encore peu essayés prennent un thread
+    // chacun, au moins deux en course, et les threads restants vont en copies au premier
+    // algorithme stochastique.
+    public synchronized Map<AlgorithmType, Integer> plan(int boardSize, List<AlgorithmType> candidates, int threads) {
+        Map<AlgorithmType, Stats> known = buckets.getOrDefault(bucket(boardSize), new EnumMap<>(AlgorithmType.class));
+        
+        List<AlgorithmType> ranked = new ArrayList<>();
+        List<AlgorithmType> unexplored = new ArrayList<>();
+        for (AlgorithmType type : candidates) {
+            Stats stats = known.get(type);
+            if (stats == null || stats.runs < MIN_RUNS) {
+                unexplored.add(type);
+            } else {
+                ranked.add(type);
+            }
+        }
+        ranked.sort((a, b) -> Double.compare(known.get(a).logMillis, known.get(b).logMillis));
+        
+        Map<AlgorithmType, Integer> plan = new LinkedHashMap<>();
+        if (unexplored.isEmpty() && !ranked.isEmpty()) {
+            Stats best = known.get(ranked.get(0));
+            if (best.runs >= DOMINANT_MIN_RUNS && best.wins >= DOMINANT_WIN_RATE * best.runs) {
+                plan.put(ranked.get(0), ranked.get(0).isDeterministic() ? 1 : threads);
+                return plan;
+            }
+        }
+        
+        // Le meilleur connu, puis l'exploration, puis les autres par estimation croissante
+        List<AlgorithmType> order = new ArrayList<>();
+        if (!ranked.isEmpty()) order.add(ranked.get(0));
+        order.addAll(unexplored);
+        order.addAll(ranked.subList(Math.min(1, ranked.size()), ranked.size()));
+        
+        int launched = Math.min(order.size(), Math.max(threads, 2));
+        for (int i = 0; i < launched; i++) {
+            plan.put(order.get(i), 1);
+        }
+        for (int i = 0; i < launched && threads > launched; i++) {
+            if (!order.get(i).isDeterministic()) {
+                plan.merge(order.get(i), threads - launched, Integer::sum);
+                break;
+            }
+        }
+        return plan;
+    }
+    
+    public synchronized long getRuns(int boardSize, AlgorithmType type) {
+        Stats stats = stats(boardSize, type);
+        return stats == null ? 0 : stats.runs;
+    }
+    
+    public synchronized long getWins(int boardSize, AlgorithmType type) {
+        Stats stats = stats(boardSize, type);
+        return stats == null ? 0 : stats.wins;
+    }
+    
+    // Temps estimé en millisecondes (pénalités comprises), NaN si jamais couru
+    public synchronized double getEstimatedMillis(int boardSize, AlgorithmType type) {
+        Stats stats = stats(boardSize, type);
+        return stats == null ? Double.NaN : Math.expm1(stats.logMillis);
+    }
+    
+    private Stats stats(int boardSize, AlgorithmType type) {
+        Map<AlgorithmType, Stats> known = buckets.get(bucket(boardSize));
+        return known == null ? null : known.get(type);
+    }
+    
+    public synchronized void save() {
+        if (file == null) {
+            return;
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "history", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                int entries = 0;
+                for (Map<AlgorithmType, Stats> known : buckets.values()) {
+                    entries += known.size();
+                }
+                out.writeInt(entries);
+                for (Map.Entry<Integer, EnumMap<AlgorithmType, Stats>> bucket : buckets.entrySet()) {
+                    for (Map.Entry<AlgorithmType, Stats> entry : bucket.getValue().entrySet()) {
+                        out.writeInt(bucket.getKey());
+                        // Par nom : l'ordre de l'énumération peut changer
+                        out.writeUTF(entry.getKey().name());
+                        out.writeLong(entry.getValue().runs);
+                        out.writeLong(entry.getValue().wins);
+                        out.writeDouble(entry.getValue().logMillis);
+                    }
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // L'historique n'est qu'une aide au choix : on continue sans lui
+            System.err.println("Portefeuille: écriture impossible de " + file + ": " + e.getMessage());
+        }
+    }
+    
+    private void load() {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                System.err.println("Portefeuille: format inconnu, historique ignoré: " + file);
+                return;
+            }
+            int entries = in.readInt();
+            for (int i = 0; i < entries; i++) {
+                int bucket = in.readInt();
+                String name = in.readUTF();
+                Stats stats = new Stats();
+                stats.runs = in.readLong();
+                stats.wins = in.readLong();
+                stats.logMillis = in.readDouble();
+                try {
+                    buckets.computeIfAbsent(bucket, b -> new EnumMap<>(AlgorithmType.class))
+                        .put(AlgorithmType.valueOf(name), stats);
+                } catch (IllegalArgumentException e) {
+                    // Algorithme retiré depuis l'écriture
+                }
+            }
+        } catch (NoSuchFileException e) {
+            // Premier lancement
+        } catch (IOException e) {
+            System.err.println("Portefeuille: lecture impossible de " + file + ": " + e.getMessage());
+            buckets.clear();
+        }
+    }
+}
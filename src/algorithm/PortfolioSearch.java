@@ -0,0 +1,205 @@
+package src.algorithm;
+
+import src.algorithm.PortfolioHistory.Outcome;
+import src.model.SearchResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Portefeuille : plusieurs algorithmes courent en parallèle sur le même N, chacun sur
+// son thread et avec son propre contexte. Le premier résultat positif gagne et les autres
+// sont annulés ; une recherche complète qui échoue sans avoir été interrompue prouve
+// l'absence de solution et termine aussi la course. Un algorithme qui lève une exception
+// (mémoire insuffisante pour un grand N, par exemple) est seulement éliminé. L'historique décide des algorithmes
+// lancés et du nombre d'exécutions de chacun (un thread par exécution ; les copies d'un
+// algorithme stochastique ont chacune leur graine), et apprend de chaque course.
+public class PortfolioSearch implements SearchAlgorithm {
+    // Recherches complètes et locales ; la construction explicite rendrait la course inutile
+    public static final List<AlgorithmType> DEFAULT_CANDIDATES = Collections.unmodifiableList(Arrays.asList(
+        AlgorithmType.DFS_BITMASK, AlgorithmType.FORWARD_CHECKING,
+        AlgorithmType.MIN_CONFLICTS, AlgorithmType.GENETIC));
+    // Fréquence de vérification du contexte du portefeuille pendant l'attente
+    private static final long POLL_MILLIS = 10;
+    // Délai laissé aux perdants pour constater leur annulation
+    private static final long STOP_GRACE_MILLIS = 1000;
+    
+    private final List<AlgorithmType> candidates;
+    private final int threads;
+    private final PortfolioHistory history;
+    
+    public PortfolioSearch() {
+        this(DEFAULT_CANDIDATES, Runtime.getRuntime().availableProcessors(), new PortfolioHistory());
+    }
+    
+    public PortfolioSearch(List<AlgorithmType> candidates, int threads, PortfolioHistory history) {
+        if (candidates.isEmpty() || candidates.contains(AlgorithmType.PORTFOLIO)) {
+            throw new IllegalArgumentException("Candidats invalides: " + candidates);
+        }
+        this.candidates = new ArrayList<>(candidates);
+        this.threads = Math.max(1, threads);
+        this.history = history;
+    }
+    
+    public PortfolioHistory getHistory() {
+        return history;
+    }
+    
+    @Override
+    public SearchResult solve(int boardSize, SearchContext context) {
+        context.start();
+        Map<AlgorithmType, Integer> plan = history.plan(boardSize, candidates, threads);
+        
+        List<Runner> runners = new ArrayList<>();
+        for (Map.Entry<AlgorithmType, Integer> entry : plan.entrySet()) {
+            AlgorithmType type = entry.getKey();
+            for (int copy = 0; copy < entry.getValue(); copy++) {
+                SearchContext own = new SearchContext();
+                own.setTimeLimitMillis(context.getTimeLimitMillis());
+                own.setNodeLimit(context.getNodeLimit());
+                SearchAlgorithm algorithm = type.isDeterministic()
+                    ? AlgorithmFactory.create(type, 1)
+                    : AlgorithmFactory.create(type, 1, ThreadLocalRandom.current().nextLong());
+                runners.add(new Runner(type, algorithm, boardSize, own));
+            }
+        }
+        
+        ExecutorService executor = Executors.newFixedThreadPool(runners.size(), task -> {
+            Thread thread = new Thread(task, "portfolio");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ExecutorCompletionService<Runner> completion = new ExecutorCompletionService<>(executor);
+        long start = System.nanoTime();
+        for (Runner runner : runners) {
+            completion.submit(runner, runner);
+        }
+        
+        Runner winner = null;
+        Runner fallback = null;
+        try {
+            for (int pending = runners.size(); pending > 0 && winner == null; ) {
+                Future<Runner> done = completion.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (done == null) {
+                    // Annulation ou budget du portefeuille lui-même
+                    if (context.checkpoint(0, 0, -1)) break;
+                    continue;
+                }
+                pending--;
+                Runner runner = done.get();
+                if (runner.result == null) {
+                    continue;
+                }
+                if (runner.result.isSuccess()
+                        || runner.type.isDeterministic() && !runner.context.isStopped()) {
+                    winner = runner;
+                } else if (fallback == null) {
+                    fallback = runner;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Échec d'un algorithme du portefeuille", e.getCause());
+        } finally {
+            for (Runner runner : runners) {
+                runner.context.getCancellationToken().cancel();
+            }
+            executor.shutdown();
+            try {
+                executor.awaitTermination(STOP_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            executor.shutdownNow();
+        }
+        
+        learn(boardSize, runners, winner);
+        
+        Runner chosen = winner != null ? winner : fallback;
+        if (chosen == null) {
+            return new SearchResult(null, 0, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), false);
+        }
+        chosen.result.getMetrics().setSolver(chosen.type.name());
+        return chosen.result;
+    }
+    
+    // Les perdants annulés n'ont qu'une borne inférieure de leur temps : le temps du gagnant.
+    // Une seule mesure par algorithme et par course : celle du gagnant, sinon de la première copie.
+    private void learn(int boardSize, List<Runner> runners, Runner winner) {
+        List<Runner> ordered = new ArrayList<>(runners);
+        if (winner != null) {
+            ordered.remove(winner);
+            ordered.add(0, winner);
+        }
+        EnumSet<AlgorithmType> learned = EnumSet.noneOf(AlgorithmType.class);
+        for (Runner runner : ordered) {
+            if (!learned.add(runner.type)) {
+                continue;
+            }
+            Outcome outcome;
+            long elapsed;
+            if (runner == winner) {
+                outcome = Outcome.WON;
+                elapsed = runner.elapsedNanos;
+            } else if (runner.result != null && runner.result.isSuccess()) {
+                // Terminé juste après le gagnant
+                outcome = Outcome.LOST;
+                elapsed = runner.elapsedNanos;
+            } else if (runner.failure != null || runner.result != null && !runner.cancelled) {
+                // Arrêté par son propre budget, abandon ou exception
+                outcome = Outcome.FAILED;
+                elapsed = runner.elapsedNanos;
+            } else if (winner != null) {
+                outcome = Outcome.LOST;
+                elapsed = winner.elapsedNanos;
+            } else {
+                // Course interrompue de l'extérieur : rien à apprendre
+                continue;
+            }
+            history.record(boardSize, runner.type, elapsed, outcome);
+        }
+    }
+    
+    private static final class Runner implements Runnable {
+        private final AlgorithmType type;
+        private final SearchAlgorithm algorithm;
+        private final int boardSize;
+        private final SearchContext context;
+        private volatile SearchResult result;
+        private volatile long elapsedNanos;
+        // Vrai si la recherche a été arrêtée par l'annulation de la course
+        private volatile boolean cancelled;
+        // Exception levée par l'algorithme : les autres continuent la course
+        private volatile Throwable failure;
+        
+        Runner(AlgorithmType type, SearchAlgorithm algorithm, int boardSize, SearchContext context) {
+            this.type = type;
+            this.algorithm = algorithm;
+            this.boardSize = boardSize;
+            this.context = context;
+        }
+        
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            try {
+                result = algorithm.solve(boardSize, context);
+            } catch (Throwable e) {
+                failure = e;
+                System.err.println("Portefeuille: échec de " + type + " (N=" + boardSize + "): " + e);
+            }
+            elapsedNanos = System.nanoTime() - start;
+            cancelled = context.getStopReason() == SearchContext.StopReason.CANCELLED;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package src.algorithm;
+
+import src.model.SearchProgress;
+
+public interface ProgressListener {
+    // Appelé depuis le thread de recherche : ne pas bloquer
+    void onProgress(SearchProgress progress);
+}
@@ -0,0 +1,347 @@
+package src.algorithm;
+
+import src.model.Board;
+import src.model.CountResult;
+import src.model.SearchMetrics;
+import src.model.SearchResult;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Cache des résultats (recherches et dénombrements), partagé entre threads.
+// Niveau mémoire LRU borné en nombre d'entrées et en taille cumulée des solutions,
+// niveau disque optionnel (un petit fichier binaire par entrée) qui survit au redémarrage.
+// Un résultat relu depuis le cache garde les statistiques du calcul d'origine.
+public class ResultCache {
+    private static final int MAGIC = 0x4E515243; // "NQRC"
+    private static final byte VERSION = 4;
+    private static final byte SEARCH_ENTRY = 0;
+    private static final byte COUNT_ENTRY = 1;
+    
+    private final int maxEntries;
+    private final long maxQueens;
+    private final Path directory;
+    
+    // Ordre d'accès : la première entrée est la moins récemment utilisée
+    private final LinkedHashMap<String, Object> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedQueens;
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    
+    // Résultat de recherche mémorisé sans objet Board (reconstruit à la lecture)
+    private static final class StoredSearch {
+        final int size;
+        final int[] queens;
+        final long nodesExplored;
+        final long timeMillis;
+        final boolean success;
+        final boolean seeded;
+        final long seed;
+        final SearchMetrics metrics;
+        
+        StoredSearch(int size, int[] queens, long nodesExplored, long timeMillis, boolean success,
+                     boolean seeded, long seed, SearchMetrics metrics) {
+            this.size = size;
+            this.queens = queens;
+            this.nodesExplored = nodesExplored;
+            this.timeMillis = timeMillis;
+            this.success = success;
+            this.seeded = seeded;
+            this.seed = seed;
+            this.metrics = metrics;
+        }
+    }
+    
+    public ResultCache(int maxEntries) {
+        this(maxEntries, Long.MAX_VALUE, null);
+    }
+    
+    // maxQueens : somme maximale des N des solutions gardées en mémoire
+    // directory : niveau disque (null = mémoire seulement)
+    public ResultCache(int maxEntries, long maxQueens, Path directory) {
+        if (maxEntries < 1 || maxQueens < 1) {
+            throw new IllegalArgumentException("La capacité du cache doit être positive");
+        }
+        this.maxEntries = maxEntries;
+        this.maxQueens = maxQueens;
+        this.directory = directory;
+        if (directory != null) {
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+    
+    public static String key(String algorithm, int boardSize) {
+        return algorithm + "-" + boardSize;
+    }
+    
+    public SearchResult getResult(String key) {
+        Object entry = lookup(key);
+        if (!(entry instanceof StoredSearch)) {
+            return null;
+        }
+        StoredSearch stored = (StoredSearch) entry;
+        Board board = null;
+        if (stored.queens != null) {
+            board = new Board(stored.size);
+            for (int row = 0; row < stored.size; row++) {
+                board.placeQueen(row, stored.queens[row]);
+            }
+        }
+        SearchResult result = stored.seeded
+            ? new SearchResult(board, stored.nodesExplored, stored.timeMillis, stored.success, stored.seed)
+            : new SearchResult(board, stored.nodesExplored, stored.timeMillis, stored.success);
+        result.setMetrics(new SearchMetrics(stored.metrics));
+        return result;
+    }
+    
+    public void putResult(String key, int boardSize, SearchResult result) {
+        Board board = result.getSolution();
+        int[] queens = board == null ? null : board.getQueens();
+        store(key, new StoredSearch(boardSize, queens, result.getNodesExplored(),
+            result.getTimeMillis(), result.isSuccess(), result.hasSeed(), result.getSeed(),
+            new SearchMetrics(result.getMetrics())));
+    }
+    
+    public CountResult getCount(String key) {
+        Object entry = lookup(key);
+        return entry instanceof CountResult ? (CountResult) entry : null;
+    }
+    
+    public void putCount(String key, CountResult count) {
+        store(key, count);
+    }
+    
+    private Object lookup(String key) {
+        synchronized (entries) {
+            Object entry = entries.get(key);
+            if (entry != null) {
+                hits.incrementAndGet();
+                return entry;
+            }
+        }
+        
+        Object entry = directory == null ? null : read(key);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        diskHits.incrementAndGet();
+        remember(key, entry);
+        return entry;
+    }
+    
+    private void store(String key, Object entry) {
+        remember(key, entry);
+        if (directory != null) {
+            write(key, entry);
+        }
+    }
+    
+    private void remember(String key, Object entry) {
+        synchronized (entries) {
+            Object previous = entries.put(key, entry);
+            cachedQueens += weight(entry) - (previous == null ? 0 : weight(previous));
+            
+            Iterator<Map.Entry<String, Object>> eldest = entries.entrySet().iterator();
+            while ((entries.size() > maxEntries || cachedQueens > maxQueens) && entries.size() > 1) {
+                Object evicted = eldest.next().getValue();
+                eldest.remove();
+                cachedQueens -= weight(evicted);
+                evictions.incrementAndGet();
+            }
+        }
+    }
+    
+    private static long weight(Object entry) {
+        if (entry instanceof StoredSearch && ((StoredSearch) entry).queens != null) {
+            return ((StoredSearch) entry).size;
+        }
+        return 1;
+    }
+    
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            cachedQueens = 0;
+        }
+    }
+    
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+    
+    public long getHitCount() {
+        return hits.get();
+    }
+    
+    public long getDiskHitCount() {
+        return diskHits.get();
+    }
+    
+    public long getMissCount() {
+        return misses.get();
+    }
+    
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+    
+    // Part des requêtes servies sans recalcul (mémoire ou disque)
+    public double getHitRatio() {
+        long served = hits.get() + diskHits.get();
+        long total = served + misses.get();
+        return total == 0 ? 0 : (double) served / total;
+    }
+    
+    // Format disque : en-tête, clé, puis les champs ; les colonnes d'une solution sont
+    // compactées sur ceil(log2 N) bits chacune (PackedStates)
+    private Path file(String key) {
+        return directory.resolve(key.replaceAll("[^A-Za-z0-9_.-]", "_") + ".bin");
+    }
+    
+    private void write(String key, Object entry) {
+        Path target = file(key);
+        try {
+            Path temp = Files.createTempFile(directory, "entry", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                out.writeUTF(key);
+                if (entry instanceof StoredSearch) {
+                    StoredSearch stored = (StoredSearch) entry;
+                    out.writeByte(SEARCH_ENTRY);
+                    out.writeInt(stored.size);
+                    out.writeLong(stored.nodesExplored);
+                    out.writeLong(stored.timeMillis);
+                    out.writeBoolean(stored.success);
+                    out.writeBoolean(stored.seeded);
+                    out.writeLong(stored.seed);
+                    writeMetrics(out, stored.metrics);
+                    out.writeBoolean(stored.queens != null);
+                    if (stored.queens != null) {
+                        int bits = PackedStates.bitsPerRow(stored.size);
+                        long[] packed = new long[PackedStates.words(stored.size, bits)];
+                        for (int row = 0; row < stored.size; row++) {
+                            PackedStates.set(packed, 0, row, bits, stored.queens[row]);
+                        }
+                        for (long word : packed) {
+                            out.writeLong(word);
+                        }
+                    }
+                } else {
+                    CountResult count = (CountResult) entry;
+                    out.writeByte(COUNT_ENTRY);
+                    out.writeLong(count.getTotalSolutions());
+                    out.writeLong(count.getUniqueSolutions());
+                    out.writeLong(count.getNodesExplored());
+                    out.writeLong(count.getTimeMillis());
+                    out.writeBoolean(count.isComplete());
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Le niveau disque n'est qu'une optimisation : l'entrée reste en mémoire
+            System.err.println("Cache: écriture impossible de " + target + ": " + e.getMessage());
+        }
+    }
+    
+    private Object read(String key) {
+        Path source = file(key);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(source)))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION || !in.readUTF().equals(key)) {
+                return null;
+            }
+            if (in.readByte() == COUNT_ENTRY) {
+                return new CountResult(in.readLong(), in.readLong(), in.readLong(), in.readLong(), in.readBoolean());
+            }
+            
+            int size = in.readInt();
+            long nodesExplored = in.readLong();
+            long timeMillis = in.readLong();
+            boolean success = in.readBoolean();
+            boolean seeded = in.readBoolean();
+            long seed = in.readLong();
+            SearchMetrics metrics = readMetrics(in);
+            int[] queens = null;
+            if (in.readBoolean()) {
+                int bits = PackedStates.bitsPerRow(size);
+                long[] packed = new long[PackedStates.words(size, bits)];
+                for (int i = 0; i < packed.length; i++) {
+                    packed[i] = in.readLong();
+                }
+                queens = new int[size];
+                for (int row = 0; row < size; row++) {
+                    queens[row] = PackedStates.get(packed, 0, row, bits);
+                }
+            }
+            return new StoredSearch(size, queens, nodesExplored, timeMillis, success, seeded, seed, metrics);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            System.err.println("Cache: lecture impossible de " + source + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
+    private static void writeMetrics(DataOutputStream out, SearchMetrics metrics) throws IOException {
+        out.writeLong(metrics.getTotalNanos());
+        out.writeInt(metrics.getPhaseNanos().size());
+        for (Map.Entry<String, Long> phase : metrics.getPhaseNanos().entrySet()) {
+            out.writeUTF(phase.getKey());
+            out.writeLong(phase.getValue());
+        }
+        out.writeLong(metrics.getNodesExpanded());
+        out.writeLong(metrics.getNodesGenerated());
+        out.writeLong(metrics.getPeakFrontier());
+        out.writeLong(metrics.getReexpansions());
+        out.writeLong(metrics.getPeakMemoryBytes());
+        out.writeLong(metrics.getGenerations());
+        out.writeLong(metrics.getEvaluations());
+        out.writeLong(metrics.getAllocatedBytes());
+        out.writeBoolean(metrics.getSolver() != null);
+        if (metrics.getSolver() != null) {
+            out.writeUTF(metrics.getSolver());
+        }
+    }
+    
+    private static SearchMetrics readMetrics(DataInputStream in) throws IOException {
+        SearchMetrics metrics = new SearchMetrics();
+        metrics.setTotalNanos(in.readLong());
+        int phases = in.readInt();
+        for (int i = 0; i < phases; i++) {
+            metrics.addPhaseNanos(in.readUTF(), in.readLong());
+        }
+        metrics.setNodesExpanded(in.readLong());
+        metrics.setNodesGenerated(in.readLong());
+        metrics.setPeakFrontier(in.readLong());
+        metrics.setReexpansions(in.readLong());
+        metrics.setPeakMemoryBytes(in.readLong());
+        metrics.setGenerations(in.readLong());
+        metrics.setEvaluations(in.readLong());
+        metrics.setAllocatedBytes(in.readLong());
+        if (in.readBoolean()) {
+            metrics.setSolver(in.readUTF());
+        }
+        return metrics;
+    }
+}
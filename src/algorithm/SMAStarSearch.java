@@ -0,0 +1,365 @@
+package src.algorithm;
+
+import src.algorithm.heuristic.Heuristic;
+import src.model.Board;
+import src.model.SearchMetrics;
+import src.model.SearchResult;
+import java.util.Arrays;
+import java.util.TreeSet;
+
+// SMA* : A* à mémoire bornée. Au plus maxNodes nœuds sont gardés ; quand la mémoire est
+// pleine, la feuille la moins prometteuse (f le plus grand, puis la moins profonde) est
+// oubliée et son f est remonté dans son parent, qui régénérera ce sous-arbre si celui-ci
+// redevient le meilleur choix. Un successeur est généré à la fois (colonne suivante).
+// Les nœuds ne gardent que leur colonne et leur parent ; le plateau de travail est
+// rechargé depuis la chaîne des parents.
+public class SMAStarSearch implements SearchAlgorithm {
+    public static final int DEFAULT_MAX_NODES = 1 << 16;
+    private static final int INFINITE = Integer.MAX_VALUE;
+    private static final int INITIAL_CAPACITY = 1024;
+    // Octets par nœud : 11 tableaux d'int, plus une entrée dans chacun des deux TreeSet
+    // (nœud d'arbre et Integer, ~56 octets)
+    private static final int NODE_BYTES = 11 * 4 + 2 * 56;
+    
+    private final Heuristic heuristic;
+    private final int maxNodes;
+    
+    // Pool de nœuds (indices réutilisés via une liste libre chaînée par nextSibling)
+    private int[] parents;
+    private int[] firstChild;
+    private int[] nextSibling;
+    private int[] prevSibling;
+    private int[] depths;
+    private int[] columns;
+    private int[] fCosts;
+    private int[] hCosts;
+    // Prochaine colonne à essayer, et plus petit f des enfants oubliés
+    private int[] cursors;
+    private int[] forgotten;
+    // Passes de régénération déjà commencées
+    private int[] passes;
+    private int count;
+    private int peakCount;
+    private int freeList;
+    
+    // Nœuds pouvant encore générer un successeur, et feuilles candidates à l'oubli.
+    // Même ordre pour les deux : f croissant, puis le plus profond, puis le plus récent
+    private TreeSet<Integer> open;
+    private TreeSet<Integer> leaves;
+    
+    private Board board;
+    private int[] path;
+    private int loadedNode;
+    
+    public SMAStarSearch(Heuristic heuristic) {
+        this(heuristic, DEFAULT_MAX_NODES);
+    }
+    
+    // maxNodes doit dépasser N pour pouvoir garder un chemin complet
+    public SMAStarSearch(Heuristic heuristic, int maxNodes) {
+        if (maxNodes < 2) {
+            throw new IllegalArgumentException("maxNodes < 2: " + maxNodes);
+        }
+        this.heuristic = heuristic;
+        this.maxNodes = maxNodes;
+    }
+    
+    @Override
+    public SearchResult solve(int boardSize, SearchContext context) {
+        if (maxNodes <= boardSize) {
+            // Un chemin complet compte N + 1 nœuds : aucune solution ne tiendrait en mémoire
+            throw new IllegalArgumentException("maxNodes (" + maxNodes + ") doit dépasser N (" + boardSize + ")");
+        }
+        MetricsRecorder recorder = new MetricsRecorder();
+        long nodesExplored = 0;
+        long nodesGenerated = 0;
+        long reexpansions = 0;
+        context.start();
+        recorder.phase("search");
+        
+        reset(boardSize);
+        Board solution = null;
+        
+        int rootCost = heuristic.evaluate(board);
+        if (rootCost != Heuristic.DEAD_END) {
+            int root = allocate(-1, 0, -1, rootCost, rootCost);
+            open.add(root);
+        }
+        
+        while (!open.isEmpty()) {
+            int best = open.first();
+            if (fCosts[best] == INFINITE) {
+                break;
+            }
+            nodesExplored++;
+            if ((nodesExplored & SearchContext.CHECK_MASK) == 0
+                    && context.checkpoint(SearchContext.CHECK_INTERVAL, depths[best], -1)) {
+                break;
+            }
+            
+            load(best);
+            if (board.isComplete()) {
+                solution = new Board(board);
+                break;
+            }
+            
+            // Tous les successeurs ont été générés mais certains ont été oubliés : nouvelle passe
+            if (cursors[best] == boardSize) {
+                cursors[best] = 0;
+                forgotten[best] = INFINITE;
+                passes[best]++;
+            }
+            
+            int row = depths[best];
+            int childCol = -1;
+            int childH = 0;
+            while (row < boardSize && cursors[best] < boardSize) {
+                int col = cursors[best]++;
+                if (!board.isSafe(row, col) || hasChild(best, col)) {
+                    continue;
+                }
+                board.placeQueen(row, col);
+                int hCost = heuristic.evaluate(board, hCosts[best], row, col);
+                board.removeQueen(row);
+                if (hCost != Heuristic.DEAD_END) {
+                    childCol = col;
+                    childH = hCost;
+                    break;
+                }
+            }
+            
+            // Plus rien à générer dans cette passe
+            if (cursors[best] == boardSize || row == boardSize) {
+                cursors[best] = boardSize;
+                if (forgotten[best] == INFINITE) {
+                    open.remove(best);
+                }
+            }
+            
+            if (childCol >= 0) {
+                nodesGenerated++;
+                if (passes[best] > 0) {
+                    reexpansions++;
+                }
+                int childDepth = row + 1;
+                // pathmax : f ne décroît pas le long d'un chemin
+                int childF = Math.max(fCosts[best], childDepth + childH);
+                if (childDepth < boardSize && childDepth >= maxNodes - 1) {
+                    // Trop profond pour la mémoire disponible : jamais complétable ici
+                    childF = INFINITE;
+                }
+                
+                if (count == maxNodes && !evict(best, childF)) {
+                    // Aucune feuille plus mauvaise que lui : le successeur est oublié aussitôt
+                    forgotten[best] = Math.min(forgotten[best], childF);
+                    if (!open.contains(best)) open.add(best);
+                } else {
+                    int child = allocate(best, childDepth, childCol, childH, childF);
+                    open.add(child);
+                    leaves.add(child);
+                }
+            }
+            
+            backup(best, -1);
+        }
+        
+        SearchMetrics metrics = recorder.finish();
+        metrics.setNodesExpanded(nodesExplored);
+        metrics.setNodesGenerated(nodesGenerated);
+        metrics.setReexpansions(reexpansions);
+        metrics.setPeakFrontier(peakCount);
+        metrics.setPeakMemoryBytes((long) peakCount * NODE_BYTES + board.memoryBytes() + 4L * path.length);
+        
+        SearchResult result = new SearchResult(solution, nodesExplored, recorder.totalMillis(), solution != null);
+        result.setMetrics(metrics);
+        return result;
+    }
+    
+    private void reset(int boardSize) {
+        int capacity = Math.min(INITIAL_CAPACITY, maxNodes);
+        parents = new int[capacity];
+        firstChild = new int[capacity];
+        nextSibling = new int[capacity];
+        prevSibling = new int[capacity];
+        depths = new int[capacity];
+        columns = new int[capacity];
+        fCosts = new int[capacity];
+        hCosts = new int[capacity];
+        cursors = new int[capacity];
+        forgotten = new int[capacity];
+        passes = new int[capacity];
+        count = 0;
+        peakCount = 0;
+        freeList = -1;
+        open = new TreeSet<>(this::compare);
+        leaves = new TreeSet<>(this::compare);
+        board = new Board(boardSize);
+        path = new int[boardSize];
+        loadedNode = -1;
+    }
+    
+    private int compare(Integer a, Integer b) {
+        int x = a, y = b;
+        if (fCosts[x] != fCosts[y]) return fCosts[x] < fCosts[y] ? -1 : 1;
+        if (depths[x] != depths[y]) return depths[x] > depths[y] ? -1 : 1;
+        return Integer.compare(y, x);
+    }
+    
+    private int allocate(int parent, int depth, int col, int hCost, int fCost) {
+        int node;
+        if (freeList >= 0) {
+            node = freeList;
+            freeList = nextSibling[node];
+        } else {
+            node = count;
+            if (node == depths.length) grow();
+        }
+        count++;
+        peakCount = Math.max(peakCount, count);
+        
+        parents[node] = parent;
+        depths[node] = depth;
+        columns[node] = col;
+        hCosts[node] = hCost;
+        fCosts[node] = fCost;
+        cursors[node] = 0;
+        forgotten[node] = INFINITE;
+        passes[node] = 0;
+        firstChild[node] = -1;
+        prevSibling[node] = -1;
+        nextSibling[node] = -1;
+        if (parent >= 0) {
+            // Le parent cesse d'être une feuille
+            leaves.remove(parent);
+            int head = firstChild[parent];
+            nextSibling[node] = head;
+            if (head >= 0) prevSibling[head] = node;
+            firstChild[parent] = node;
+        }
+        return node;
+    }
+    
+    // Tant qu'aucun nœud n'a été libéré, les indices sont contigus ; ensuite la liste libre suffit
+    private void grow() {
+        int capacity = (int) Math.min(2L * depths.length, maxNodes);
+        parents = Arrays.copyOf(parents, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        nextSibling = Arrays.copyOf(nextSibling, capacity);
+        prevSibling = Arrays.copyOf(prevSibling, capacity);
+        depths = Arrays.copyOf(depths, capacity);
+        columns = Arrays.copyOf(columns, capacity);
+        fCosts = Arrays.copyOf(fCosts, capacity);
+        hCosts = Arrays.copyOf(hCosts, capacity);
+        cursors = Arrays.copyOf(cursors, capacity);
+        forgotten = Arrays.copyOf(forgotten, capacity);
+        passes = Arrays.copyOf(passes, capacity);
+    }
+    
+    // Détache le nœud (une feuille) de son parent et rend son indice
+    private void release(int node) {
+        open.remove(node);
+        leaves.remove(node);
+        int parent = parents[node];
+        if (parent >= 0) {
+            int prev = prevSibling[node];
+            int next = nextSibling[node];
+            if (prev >= 0) nextSibling[prev] = next;
+            else firstChild[parent] = next;
+            if (next >= 0) prevSibling[next] = prev;
+            if (firstChild[parent] < 0 && parents[parent] >= 0) {
+                leaves.add(parent);
+            }
+        }
+        if (loadedNode == node) {
+            loadedNode = -1;
+        }
+        // Les champs restent lisibles jusqu'à la réallocation (voir evict/backup)
+        nextSibling[node] = freeList;
+        freeList = node;
+        count--;
+    }
+    
+    // Oublie la pire feuille (jamais keep ni la racine) si elle n'est pas meilleure que le
+    // successeur à insérer, de coût fCost ; false si aucune ne convient
+    private boolean evict(int keep, int fCost) {
+        Integer worst = leaves.isEmpty() ? null : leaves.last();
+        if (worst != null && worst == keep) {
+            worst = leaves.lower(worst);
+        }
+        if (worst == null || fCosts[worst] < fCost) {
+            return false;
+        }
+        int parent = parents[worst];
+        int worstCost = fCosts[worst];
+        release(worst);
+        
+        // Le parent garde le f du sous-arbre oublié et redevient candidat
+        if (forgotten[parent] > worstCost) {
+            forgotten[parent] = worstCost;
+        }
+        if (!open.contains(parent)) {
+            open.add(parent);
+        }
+        // keep va recevoir le successeur : il ne doit pas être libéré même s'il n'a plus d'enfant
+        backup(parent, keep);
+        return true;
+    }
+    
+    // Remonte vers la racine le plus petit f des enfants (gardés ou oubliés) d'un nœud dont
+    // tous les successeurs ont été générés ; un tel nœud sans enfant est une impasse, libérée
+    // sauf s'il s'agit de keep (-1 : aucun nœud protégé)
+    private void backup(int node, int keep) {
+        while (node >= 0 && cursors[node] == board.getSize()) {
+            int best = forgotten[node];
+            for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+                best = Math.min(best, fCosts[child]);
+            }
+            int parent = parents[node];
+            if (best == INFINITE && firstChild[node] < 0 && parent >= 0 && node != keep) {
+                release(node);
+                node = parent;
+                continue;
+            }
+            if (best == fCosts[node]) {
+                return;
+            }
+            setCost(node, best);
+            node = parent;
+        }
+    }
+    
+    // Changement de clé : les deux ensembles ordonnés doivent être mis à jour
+    private void setCost(int node, int fCost) {
+        boolean inOpen = open.remove(node);
+        boolean inLeaves = leaves.remove(node);
+        fCosts[node] = fCost;
+        if (inOpen) open.add(node);
+        if (inLeaves) leaves.add(node);
+    }
+    
+    private boolean hasChild(int node, int col) {
+        for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+            if (columns[child] == col) return true;
+        }
+        return false;
+    }
+    
+    // Recharge le plateau sur le chemin du nœud ; seules les lignes qui diffèrent changent
+    private void load(int node) {
+        if (node == loadedNode) {
+            return;
+        }
+        int depth = depths[node];
+        for (int current = node; parents[current] >= 0; current = parents[current]) {
+            path[depths[current] - 1] = columns[current];
+        }
+        for (int row = 0; row < board.getSize(); row++) {
+            if (row < depth) {
+                if (board.getQueenColumn(row) != path[row]) board.placeQueen(row, path[row]);
+            } else if (board.getQueenColumn(row) != -1) {
+                board.removeQueen(row);
+            }
+        }
+        loadedNode = node;
+    }
+}
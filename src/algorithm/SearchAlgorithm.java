@@ -3,5 +3,10 @@ package src.algorithm;
 import src.model.SearchResult;
 
 public interface SearchAlgorithm {
-    SearchResult solve(int boardSize);
+    default SearchResult solve(int boardSize) {
+        return solve(boardSize, new SearchContext());
+    }
+    
+    // Doit respecter l'annulation et les budgets du contexte (voir SearchContext.checkpoint)
+    SearchResult solve(int boardSize, SearchContext context);
 }
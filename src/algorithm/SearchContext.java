@@ -0,0 +1,113 @@
+package src.algorithm;
+
+import src.model.SearchProgress;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Contrôle d'une exécution : annulation, budget de temps et de nœuds, suivi de progression.
+// Les algorithmes appellent checkpoint() tous les CHECK_INTERVAL nœuds environ (ou à chaque
+// génération), ce qui garde le coût négligeable dans les boucles critiques. Un même
+// contexte peut être partagé entre les threads d'un algorithme parallèle.
+public class SearchContext {
+    
+    public enum StopReason { NONE, CANCELLED, TIME_LIMIT, NODE_LIMIT }
+    
+    public static final int CHECK_INTERVAL = 1 << 10;
+    public static final int CHECK_MASK = CHECK_INTERVAL - 1;
+    
+    private CancellationToken token = new CancellationToken();
+    private long timeLimitMillis;
+    private long nodeLimit;
+    private ProgressListener progressListener;
+    private long progressIntervalMillis = 200;
+    
+    private long startNanos;
+    private long deadlineNanos;
+    private final AtomicLong nodes = new AtomicLong();
+    private final AtomicLong nextProgressNanos = new AtomicLong();
+    private volatile StopReason stopReason = StopReason.NONE;
+    
+    public CancellationToken getCancellationToken() {
+        return token;
+    }
+    
+    public void setCancellationToken(CancellationToken token) {
+        this.token = token;
+    }
+    
+    // 0 = pas de limite
+    public void setTimeLimitMillis(long timeLimitMillis) {
+        this.timeLimitMillis = timeLimitMillis;
+    }
+    
+    public long getTimeLimitMillis() {
+        return timeLimitMillis;
+    }
+    
+    // 0 = pas de limite ; peut être dépassé d'au plus un intervalle de vérification
+    public void setNodeLimit(long nodeLimit) {
+        this.nodeLimit = nodeLimit;
+    }
+    
+    public long getNodeLimit() {
+        return nodeLimit;
+    }
+    
+    public void setProgressListener(ProgressListener progressListener, long intervalMillis) {
+        this.progressListener = progressListener;
+        this.progressIntervalMillis = intervalMillis;
+    }
+    
+    // Appelé par l'algorithme au début de solve() : démarre le chronomètre du budget
+    public void start() {
+        startNanos = System.nanoTime();
+        deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(timeLimitMillis);
+        nodes.set(0);
+        nextProgressNanos.set(startNanos + TimeUnit.MILLISECONDS.toNanos(progressIntervalMillis));
+        stopReason = StopReason.NONE;
+    }
+    
+    // Comptabilise newNodes nœuds, publie la progression si l'intervalle est écoulé et
+    // retourne true si la recherche doit s'arrêter
+    public boolean checkpoint(long newNodes, int depth, int bestFitness) {
+        long total = nodes.addAndGet(newNodes);
+        if (stopReason != StopReason.NONE) {
+            return true;
+        }
+        if (token.isCancelled()) {
+            return stop(StopReason.CANCELLED);
+        }
+        if (nodeLimit > 0 && total >= nodeLimit) {
+            return stop(StopReason.NODE_LIMIT);
+        }
+        
+        long now = System.nanoTime();
+        if (timeLimitMillis > 0 && now - deadlineNanos >= 0) {
+            return stop(StopReason.TIME_LIMIT);
+        }
+        
+        if (progressListener != null) {
+            long next = nextProgressNanos.get();
+            // Un seul thread publie par intervalle
+            if (now - next >= 0 && nextProgressNanos.compareAndSet(next,
+                    now + TimeUnit.MILLISECONDS.toNanos(progressIntervalMillis))) {
+                progressListener.onProgress(new SearchProgress(total,
+                    TimeUnit.NANOSECONDS.toMillis(now - startNanos), depth, bestFitness));
+            }
+        }
+        return false;
+    }
+    
+    public boolean isStopped() {
+        return stopReason != StopReason.NONE;
+    }
+    
+    public StopReason getStopReason() {
+        return stopReason;
+    }
+    
+    private boolean stop(StopReason reason) {
+        stopReason = reason;
+        return true;
+    }
+}
@@ -0,0 +1,107 @@
+package src.algorithm;
+
+import src.model.CountResult;
+
+// Comptage et énumération de toutes les solutions par backtracking bitmask.
+// La symétrie miroir limite la première ligne à la moitié gauche du damier ;
+// les solutions sont aussi classées en classes fondamentales (8 symétries).
+public class SolutionCounter {
+    
+    enum Mode { COUNT, ALL, FUNDAMENTAL }
+    
+    // Comptages déjà faits (null = toujours recalculer) ; les énumérations ne sont pas mises en cache
+    private final ResultCache cache;
+    
+    public SolutionCounter() {
+        this(null);
+    }
+    
+    public SolutionCounter(ResultCache cache) {
+        this.cache = cache;
+    }
+    
+    public CountResult count(int boardSize) {
+        if (cache == null) {
+            return run(boardSize, Mode.COUNT, null);
+        }
+        String key = ResultCache.key("COUNT", boardSize);
+        CountResult cached = cache.getCount(key);
+        if (cached != null) {
+            return cached;
+        }
+        CountResult result = run(boardSize, Mode.COUNT, null);
+        cache.putCount(key, result);
+        return result;
+    }
+    
+    // Diffuse chaque solution au listener sans les stocker
+    public CountResult enumerate(int boardSize, SolutionListener listener) {
+        return run(boardSize, Mode.ALL, listener);
+    }
+    
+    // Diffuse uniquement le représentant canonique de chaque classe de symétrie
+    public CountResult enumerateFundamental(int boardSize, SolutionListener listener) {
+        return run(boardSize, Mode.FUNDAMENTAL, listener);
+    }
+    
+    private CountResult run(int boardSize, Mode mode, SolutionListener listener) {
+        BitmaskBacktracker.checkSize(boardSize);
+        long startTime = System.currentTimeMillis();
+        
+        BitmaskBacktracker engine = new BitmaskBacktracker(boardSize);
+        Tally tally = new Tally(boardSize, mode, listener);
+        
+        // Moitié gauche de la première ligne : chaque solution compte pour elle et son miroir
+        long half = (1L << (boardSize / 2)) - 1;
+        boolean stopped = half != 0 && engine.search(0, 0L, 0L, 0L, half, tally);
+        
+        // Colonne centrale (N impair) : le miroir reste dans la colonne centrale
+        if (!stopped && boardSize % 2 == 1) {
+            stopped = engine.search(0, 0L, 0L, 0L, 1L << (boardSize / 2), tally);
+        }
+        
+        long endTime = System.currentTimeMillis();
+        return new CountResult(tally.total, tally.unique, engine.getNodesExplored(), endTime - startTime, !stopped);
+    }
+    
+    static class Tally implements SolutionListener {
+        private final int middle;
+        private final Mode mode;
+        private final SolutionListener listener;
+        private final int[] scratch;
+        long total;
+        long unique;
+        
+        Tally(int boardSize, Mode mode, SolutionListener listener) {
+            this.middle = boardSize % 2 == 1 ? boardSize / 2 : -1;
+            this.mode = mode;
+            this.listener = listener;
+            this.scratch = new int[boardSize];
+        }
+        
+        @Override
+        public boolean onSolution(int[] queens) {
+            boolean mirrored = queens[0] != middle;
+            total += mirrored ? 2 : 1;
+            
+            // Tout représentant canonique a sa première reine dans la moitié gauche
+            // (ou au centre), il est donc toujours rencontré par la recherche.
+            boolean canonical = Symmetry.isCanonical(queens, scratch);
+            if (canonical) unique++;
+            
+            switch (mode) {
+                case ALL:
+                    if (!listener.onSolution(queens)) return false;
+                    if (mirrored) {
+                        Symmetry.mirror(queens, scratch);
+                        return listener.onSolution(scratch);
+                    }
+                    return true;
+                case FUNDAMENTAL:
+                    return !canonical || listener.onSolution(queens);
+                default:
+                    return true;
+            }
+        }
+    }
+}
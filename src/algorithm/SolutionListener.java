@@ -0,0 +1,7 @@
+package src.algorithm;
+
+public interface SolutionListener {
+    // queens[row] = colonne ; le tableau est réutilisé, le copier pour le conserver.
+    // Retourner false pour interrompre la recherche.
+    boolean onSolution(int[] queens);
+}
@@ -0,0 +1,43 @@
+package src.algorithm;
+
+// Symétries du damier (groupe diédral d'ordre 8) appliquées à une permutation
+// queens[row] = col.
+final class Symmetry {
+    
+    private Symmetry() {
+    }
+    
+    // Vrai si la solution est le plus petit représentant (ordre lexicographique)
+    // de sa classe parmi ses 8 images. inverse doit avoir la taille de queens.
+    static boolean isCanonical(int[] queens, int[] inverse) {
+        int n = queens.length;
+        for (int row = 0; row < n; row++) {
+            inverse[queens[row]] = row;
+        }
+        
+        // 1..3 : miroir, retournement vertical, rotation 180°
+        // 4..7 : mêmes images appliquées à la transposée (rotations de 90°/270° et diagonales)
+        for (int transform = 1; transform < 8; transform++) {
+            int[] source = transform < 4 ? queens : inverse;
+            boolean mirror = (transform & 1) != 0;
+            boolean flip = (transform & 2) != 0;
+            
+            for (int row = 0; row < n; row++) {
+                int col = source[flip ? n - 1 - row : row];
+                if (mirror) col = n - 1 - col;
+                
+                if (col < queens[row]) return false;
+                if (col > queens[row]) break;
+            }
+        }
+        return true;
+    }
+    
+    // Image miroir (colonne c -> n - 1 - c)
+    static void mirror(int[] queens, int[] target) {
+        int n = queens.length;
+        for (int row = 0; row < n; row++) {
+            target[row] = n - 1 - queens[row];
+        }
+    }
+}
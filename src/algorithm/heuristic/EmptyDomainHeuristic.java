@@ -0,0 +1,42 @@
+package src.algorithm.heuristic;
+
+import src.model.Board;
+
+// Lignes restantes, ou DEAD_END si une ligne vide n'a plus aucune case libre (ou si deux
+// reines s'attaquent). Admissible : tout état complétable coûte exactement une étape par
+// ligne restante, les autres ne sont jamais complétés. O(lignes restantes × N/64).
+public class EmptyDomainHeuristic implements Heuristic {
+    
+    @Override
+    public int evaluate(Board board) {
+        return isDead(board) ? DEAD_END : board.getSize() - board.getDepth();
+    }
+    
+    // Une reine de plus : une ligne restante de moins, sauf si l'état devient sans issue.
+    // Le parent ne transmet que sa valeur : les domaines sont entièrement recalculés.
+    @Override
+    public int evaluate(Board board, int parentValue, int row, int col) {
+        return parentValue == DEAD_END || isDead(board) ? DEAD_END : parentValue - 1;
+    }
+    
+    protected boolean isDead(Board board) {
+        if (board.countConflicts() > 0) {
+            return true;
+        }
+        int words = board.columnWords();
+        for (int row = 0; row < board.getSize(); row++) {
+            if (board.getQueenColumn(row) == -1 && domainSize(board, row, words) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    static int domainSize(Board board, int row, int words) {
+        int count = 0;
+        for (int word = 0; word < words; word++) {
+            count += Long.bitCount(board.freeColumns(row, word));
+        }
+        return count;
+    }
+}
@@ -3,5 +3,14 @@ package src.algorithm.heuristic;
 import src.model.Board;
 
 public interface Heuristic {
+    // État sans solution : A* n'insère pas le nœud
+    int DEAD_END = Integer.MAX_VALUE;
+    
     int evaluate(Board board);
+    
+    // Évaluation de l'enfant obtenu en posant une reine en (row, col) sur un parent de
+    // valeur parentValue ; board contient déjà cette reine. Par défaut : calcul complet.
+    default int evaluate(Board board, int parentValue, int row, int col) {
+        return parentValue == DEAD_END ? DEAD_END : evaluate(board);
+    }
 }
@@ -0,0 +1,58 @@
+package src.algorithm.heuristic;
+
+import src.model.Board;
+import java.util.Arrays;
+
+// Comme EmptyDomainHeuristic, avec un test de Hall : les k lignes restantes aux plus
+// petits domaines doivent disposer ensemble d'au moins k colonnes libres. Détecte par
+// exemple deux lignes réduites à la même case. Reste admissible (seuls des états sans
+// solution sont écartés). O(R log R + R × N/64) pour R lignes restantes.
+// Tampons de travail réutilisés d'un appel à l'autre : une instance par recherche.
+public class MinDomainHeuristic extends EmptyDomainHeuristic {
+    private long[] keys = new long[0];
+    private long[] union = new long[0];
+    
+    @Override
+    protected boolean isDead(Board board) {
+        if (board.countConflicts() > 0) {
+            return true;
+        }
+        int size = board.getSize();
+        int words = board.columnWords();
+        
+        // Clés (taille du domaine, ligne) triées par domaine croissant
+        if (keys.length < size) {
+            keys = new long[size];
+            union = new long[words];
+        }
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (board.getQueenColumn(row) == -1) {
+                int domain = domainSize(board, row, words);
+                if (domain == 0) {
+                    return true;
+                }
+                keys[count++] = ((long) domain << 32) | row;
+            }
+        }
+        Arrays.sort(keys, 0, count);
+        
+        Arrays.fill(union, 0, words, 0);
+        for (int k = 0; k < count; k++) {
+            // Domaines croissants : l'union des suivants couvre toujours assez de colonnes
+            if ((int) (keys[k] >>> 32) >= count) {
+                break;
+            }
+            int row = (int) keys[k];
+            int covered = 0;
+            for (int word = 0; word < words; word++) {
+                union[word] |= board.freeColumns(row, word);
+                covered += Long.bitCount(union[word]);
+            }
+            if (covered <= k) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
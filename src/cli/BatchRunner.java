@@ -0,0 +1,358 @@
+package src.cli;
+
+import src.algorithm.AlgorithmFactory;
+import src.algorithm.AlgorithmType;
+import src.algorithm.PortfolioHistory;
+import src.algorithm.SMAStarSearch;
+import src.algorithm.SearchAlgorithm;
+import src.algorithm.SearchContext;
+import src.model.SearchMetrics;
+import src.model.SearchResult;
+import src.monitoring.InstrumentedSearch;
+import src.monitoring.MetricsRegistry;
+import src.monitoring.MetricsServer;
+import src.monitoring.PrometheusRegistry;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Mode ligne de commande sans interface graphique : exécute des algorithmes sur une
+// liste de N et écrit une ligne CSV ou JSON par exécution. N'initialise pas AWT.
+public class BatchRunner {
+    // Délai accordé à un algorithme pour constater le dépassement de son budget
+    private static final long TIMEOUT_GRACE_MS = 1000;
+    
+    private static final String USAGE = String.join("\n",
+        "Usage: java -cp bin src.Main [options]",
+        "  --algorithms A,B,...   AlgorithmType (ex. DFS,MIN_CONFLICTS) ou ALL (défaut: DFS)",
+        "  --n 8,10,12 | 4..20    tailles de damier (liste et/ou intervalles, défaut: 8)",
+        "  --repeat R             répétitions par couple (algorithme, N) (défaut: 1)",
+        "  --timeout MS           délai maximal par exécution en ms, 0 = aucun (défaut: 0)",
+        "  --node-limit K         budget de nœuds par exécution, 0 = aucun (défaut: 0)",
+        "  --threads T            exécutions simultanées (défaut: 1)",
+        "  --solver-threads S     threads des algorithmes parallèles (défaut: nb de cœurs)",
+        "  --seed S               graine des algorithmes stochastiques, S + r - 1 pour la",
+        "                         répétition r (défaut: nouvelle graine à chaque exécution)",
+        "  --format csv|json      format de sortie (défaut: csv)",
+        "  --history FICHIER      historique persistant du portefeuille (PORTFOLIO)",
+        "  --sma-nodes K          nœuds gardés en mémoire par SMA_STAR, > N (défaut: 65536)",
+        "  --metrics-port P       expose les métriques Prometheus sur http://127.0.0.1:P/metrics",
+        "  --output FICHIER       fichier de sortie (défaut: sortie standard)");
+    
+    private List<AlgorithmType> algorithms = new ArrayList<>();
+    private List<Integer> sizes = new ArrayList<>();
+    private int repeat = 1;
+    private long timeoutMillis = 0;
+    private long nodeLimit = 0;
+    private int threads = 1;
+    private int solverThreads = Runtime.getRuntime().availableProcessors();
+    private Long seed;
+    // Partagé par toutes les exécutions PORTFOLIO du lot
+    private PortfolioHistory history = new PortfolioHistory();
+    private int smaNodes = SMAStarSearch.DEFAULT_MAX_NODES;
+    private int metricsPort = -1;
+    private PrometheusRegistry registry;
+    private boolean json = false;
+    private String output;
+    
+    public static void main(String[] args) {
+        BatchRunner runner = new BatchRunner();
+        try {
+            runner.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Erreur: " + e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        
+        try {
+            runner.run();
+        } catch (IOException e) {
+            System.err.println("Erreur d'écriture: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+    
+    private void parse(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--help") || option.equals("-h")) {
+                System.out.println(USAGE);
+                System.exit(0);
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Valeur manquante pour " + option);
+            }
+            String value = args[++i];
+            
+            switch (option) {
+                case "--algorithms":
+                    for (String name : value.split(",")) {
+                        if (name.trim().equalsIgnoreCase("ALL")) {
+                            algorithms.addAll(List.of(AlgorithmType.values()));
+                        } else {
+                            algorithms.add(AlgorithmType.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+                        }
+                    }
+                    break;
+                case "--n":
+                    for (String part : value.split(",")) {
+                        String[] bounds = part.trim().split("\\.\\.");
+                        int from = Integer.parseInt(bounds[0]);
+                        int to = bounds.length > 1 ? Integer.parseInt(bounds[1]) : from;
+                        for (int n = from; n <= to; n++) {
+                            sizes.add(n);
+                        }
+                    }
+                    break;
+                case "--repeat":
+                    repeat = positive(option, value);
+                    break;
+                case "--timeout":
+                    timeoutMillis = Long.parseLong(value);
+                    break;
+                case "--node-limit":
+                    nodeLimit = Long.parseLong(value);
+                    break;
+                case "--threads":
+                    threads = positive(option, value);
+                    break;
+                case "--solver-threads":
+                    solverThreads = positive(option, value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--history":
+                    history = new PortfolioHistory(Paths.get(value));
+                    break;
+                case "--sma-nodes":
+                    smaNodes = positive(option, value);
+                    break;
+                case "--metrics-port":
+                    metricsPort = Integer.parseInt(value);
+                    break;
+                case "--format":
+                    if (!value.equals("csv") && !value.equals("json")) {
+                        throw new IllegalArgumentException("Format inconnu: " + value);
+                    }
+                    json = value.equals("json");
+                    break;
+                case "--output":
+                    output = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Option inconnue: " + option);
+            }
+        }
+        
+        if (algorithms.isEmpty()) algorithms.add(AlgorithmType.DFS);
+        if (sizes.isEmpty()) sizes.add(8);
+    }
+    
+    private static int positive(String option, String value) {
+        int parsed = Integer.parseInt(value);
+        if (parsed < 1) {
+            throw new IllegalArgumentException(option + " doit être strictement positif");
+        }
+        return parsed;
+    }
+    
+    private void run() throws IOException {
+        PrintWriter out = output == null
+            ? new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), true)
+            : new PrintWriter(new OutputStreamWriter(new FileOutputStream(output), StandardCharsets.UTF_8), true);
+        
+        MetricsServer server = null;
+        if (metricsPort >= 0) {
+            registry = new PrometheusRegistry();
+            server = new MetricsServer(registry, metricsPort);
+            System.err.println("Métriques: http://127.0.0.1:" + server.getPort() + "/metrics");
+        }
+        
+        if (!json) {
+            out.println("algorithm,n,run,status,success,time_ms,nodes,peak_heap_bytes,seed,"
+                + "generated,peak_frontier,generations,evaluations,allocated_bytes,reexpansions,peak_memory_bytes,solver");
+        }
+        
+        // Les algorithmes s'arrêtent d'eux-mêmes à la fin de leur budget ; les threads démons
+        // évitent qu'un algorithme qui tarde à le constater bloque la fin du programme
+        ExecutorService runs = Executors.newFixedThreadPool(threads);
+        ExecutorService solvers = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "solver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        try {
+            List<Future<String>> lines = new ArrayList<>();
+            for (AlgorithmType algorithm : algorithms) {
+                for (int n : sizes) {
+                    for (int run = 1; run <= repeat; run++) {
+                        int runIndex = run;
+                        lines.add(runs.submit(() -> executeOrReport(solvers, algorithm, n, runIndex)));
+                    }
+                }
+            }
+            
+            for (Future<String> line : lines) {
+                try {
+                    out.println(line.get());
+                } catch (ExecutionException e) {
+                    // executeOrReport rattrape déjà les erreurs : on ne fait que signaler et continuer
+                    System.err.println("Erreur: " + e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            runs.shutdownNow();
+            solvers.shutdownNow();
+            if (server != null) server.close();
+            history.save();
+            if (output != null) out.close();
+            else out.flush();
+        }
+    }
+    
+    // Une erreur hors de la résolution elle-même donne aussi une ligne "error", pas l'arrêt du lot
+    private String executeOrReport(ExecutorService solvers, AlgorithmType type, int n, int run)
+            throws InterruptedException {
+        try {
+            return execute(solvers, type, n, run);
+        } catch (RuntimeException | Error e) {
+            System.err.println("Erreur: " + type.name() + " N=" + n + " exécution " + run + ": " + e);
+            return line(type, n, run, "error", 0, -1, null);
+        }
+    }
+    
+    private String execute(ExecutorService solvers, AlgorithmType type, int n, int run) throws InterruptedException {
+        // Pic du tas : global au processus, donc précis seulement avec --threads 1
+        resetPeakHeap();
+        SearchContext context = new SearchContext();
+        context.setTimeLimitMillis(timeoutMillis);
+        context.setNodeLimit(nodeLimit);
+        
+        // La construction se fait sur le thread du solveur : une erreur de configuration
+        // donne, comme une erreur de résolution, une ligne "error" pour cette exécution
+        long start = System.nanoTime();
+        Future<SearchResult> future = solvers.submit(() -> create(type, run).solve(n, context));
+        
+        SearchResult result = null;
+        String status;
+        try {
+            result = timeoutMillis > 0
+                ? future.get(timeoutMillis + TIMEOUT_GRACE_MS, TimeUnit.MILLISECONDS)
+                : future.get();
+            status = statusOf(context);
+        } catch (TimeoutException e) {
+            context.getCancellationToken().cancel();
+            future.cancel(true);
+            status = "timeout";
+        } catch (ExecutionException e) {
+            status = "error";
+            System.err.println("Erreur: " + type.name() + " N=" + n + " exécution " + run + ": " + e.getCause());
+        }
+        double elapsedMillis = (System.nanoTime() - start) / 1e6;
+        return line(type, n, run, status, elapsedMillis, peakHeap(), result);
+    }
+    
+    // result peut être null (erreur, délai dépassé) : compteurs à -1 ou vides
+    private String line(AlgorithmType type, int n, int run, String status, double elapsedMillis, long peakHeap,
+                        SearchResult result) {
+        boolean success = result != null && result.isSuccess();
+        long nodes = result != null ? result.getNodesExplored() : -1;
+        SearchMetrics metrics = result != null ? result.getMetrics() : new SearchMetrics();
+        // Graine effective, pour rejouer une exécution lente (vide pour les algorithmes déterministes)
+        String runSeed = result != null && result.hasSeed() ? Long.toString(result.getSeed()) : null;
+        
+        if (json) {
+            return String.format(Locale.ROOT,
+                "{\"algorithm\":\"%s\",\"n\":%d,\"run\":%d,\"status\":\"%s\",\"success\":%b,"
+                    + "\"time_ms\":%.3f,\"nodes\":%d,\"peak_heap_bytes\":%d,\"seed\":%s,"
+                    + "\"generated\":%d,\"peak_frontier\":%d,\"generations\":%d,\"evaluations\":%d,"
+                    + "\"allocated_bytes\":%d,\"reexpansions\":%d,\"peak_memory_bytes\":%d,\"solver\":%s,\"phases_ns\":%s}",
+                type.name(), n, run, status, success, elapsedMillis, nodes, peakHeap, runSeed == null ? "null" : runSeed,
+                metrics.getNodesGenerated(), metrics.getPeakFrontier(), metrics.getGenerations(),
+                metrics.getEvaluations(), metrics.getAllocatedBytes(), metrics.getReexpansions(),
+                metrics.getPeakMemoryBytes(), metrics.getSolver() == null ? "null" : "\"" + metrics.getSolver() + "\"",
+                phasesJson(metrics));
+        }
+        return String.format(Locale.ROOT, "%s,%d,%d,%s,%b,%.3f,%d,%d,%s,%d,%d,%d,%d,%d,%d,%d,%s",
+            type.name(), n, run, status, success, elapsedMillis, nodes, peakHeap, runSeed == null ? "" : runSeed,
+            metrics.getNodesGenerated(), metrics.getPeakFrontier(), metrics.getGenerations(),
+            metrics.getEvaluations(), metrics.getAllocatedBytes(), metrics.getReexpansions(),
+            metrics.getPeakMemoryBytes(), metrics.getSolver() == null ? "" : metrics.getSolver());
+    }
+    
+    private SearchAlgorithm create(AlgorithmType type, int run) {
+        SearchAlgorithm created;
+        if (type == AlgorithmType.PORTFOLIO) {
+            created = AlgorithmFactory.createPortfolio(solverThreads, history);
+        } else if (type == AlgorithmType.SMA_STAR) {
+            created = AlgorithmFactory.createSMAStar(smaNodes);
+        } else {
+            created = seed == null
+                ? AlgorithmFactory.create(type, solverThreads)
+                : AlgorithmFactory.create(type, solverThreads, seed + run - 1);
+        }
+        // Toujours décoré : l'événement JFR nqueens.Solve est émis même sans --metrics-port
+        return new InstrumentedSearch(created, type.name(), registry == null ? MetricsRegistry.NONE : registry);
+    }
+    
+    private static String phasesJson(SearchMetrics metrics) {
+        StringBuilder sb = new StringBuilder("{");
+        for (Map.Entry<String, Long> phase : metrics.getPhaseNanos().entrySet()) {
+            if (sb.length() > 1) sb.append(',');
+            sb.append('"').append(phase.getKey()).append("\":").append(phase.getValue());
+        }
+        return sb.append('}').toString();
+    }
+    
+    private static String statusOf(SearchContext context) {
+        switch (context.getStopReason()) {
+            case TIME_LIMIT:
+                return "timeout";
+            case NODE_LIMIT:
+                return "node_limit";
+            case CANCELLED:
+                return "cancelled";
+            default:
+                return "ok";
+        }
+    }
+    
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+    
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+}
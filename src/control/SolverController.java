@@ -2,57 +2,156 @@ package src.control;
 
 import src.algorithm.*;
 import src.algorithm.heuristic.*;
+import src.model.SearchProgress;
 import src.model.SearchResult;
+import src.monitoring.InstrumentedSearch;
+import src.monitoring.MetricsRegistry;
 import src.view.QueensGUI;
+import java.util.List;
 import javax.swing.SwingWorker;
 
 public class SolverController {
+    // Fréquence de rafraîchissement des statistiques pendant la recherche
+    private static final long PROGRESS_INTERVAL_MS = 100;
+    // Résultats gardés pour les algorithmes déterministes (même N redemandé)
+    private static final int CACHE_ENTRIES = 256;
+    
     private QueensGUI view;
+    private CancellationToken currentToken;
+    private final ResultCache cache = new ResultCache(CACHE_ENTRIES);
+    // Appris au fil des recherches de la session
+    private final PortfolioHistory history = new PortfolioHistory();
     
     public SolverController(QueensGUI view) {
         this.view = view;
     }
     
     public void solveDFS(int boardSize) {
-        solve(new DepthFirstSearch(), boardSize, "DFS");
+        solve(cached(AlgorithmType.DFS, new DepthFirstSearch()), boardSize, "DFS");
+    }
+    
+    public void solveDFSBitmask(int boardSize) {
+        solve(cached(AlgorithmType.DFS_BITMASK, new BitmaskDepthFirstSearch()), boardSize, "DFS (bitmask)");
+    }
+    
+    public void solveParallelDFS(int boardSize) {
+        solve(new ParallelSearch(), boardSize, "DFS parallèle");
     }
     
     public void solveBFS(int boardSize) {
-        solve(new BreadthFirstSearch(), boardSize, "BFS");
+        solve(cached(AlgorithmType.BFS, new BreadthFirstSearch()), boardSize, "BFS");
+    }
+    
+    public void solveBFSPacked(int boardSize) {
+        solve(cached(AlgorithmType.BFS_PACKED, new PackedBreadthFirstSearch()), boardSize, "BFS (compact)");
     }
     
     public void solveAStarConflict(int boardSize) {
-        solve(new AStarSearch(new ConflictHeuristic()), boardSize, "A* (Conflits)");
+        solve(cached(AlgorithmType.ASTAR_CONFLICT, new AStarSearch(new ConflictHeuristic())), boardSize, "A* (Conflits)");
     }
     
     public void solveAStarDistance(int boardSize) {
-        solve(new AStarSearch(new DistanceHeuristic()), boardSize, "A* (Distance)");
+        solve(cached(AlgorithmType.ASTAR_DISTANCE, new AStarSearch(new DistanceHeuristic())), boardSize, "A* (Distance)");
+    }
+    
+    public void solveAStarDomain(int boardSize) {
+        solve(cached(AlgorithmType.ASTAR_DOMAIN, new AStarSearch(new MinDomainHeuristic())), boardSize, "A* (Domaines)");
+    }
+    
+    public void solveIDAStar(int boardSize) {
+        solve(cached(AlgorithmType.IDA_STAR, new IDAStarSearch(new MinDomainHeuristic())), boardSize, "IDA*");
+    }
+    
+    public void solveSMAStar(int boardSize) {
+        solve(cached(AlgorithmType.SMA_STAR, new SMAStarSearch(new MinDomainHeuristic())), boardSize, "SMA*");
     }
     
     public void solveGenetic(int boardSize) {
         solve(new GeneticAlgorithm(), boardSize, "Algorithme Génétique");
     }
     
+    public void solveGeneticIslands(int boardSize) {
+        solve(new IslandGeneticAlgorithm(), boardSize, "Génétique (îles)");
+    }
+    
+    public void solveGeneticMemetic(int boardSize) {
+        GeneticConfig config = new GeneticConfig();
+        config.setLocalSearchSteps(GeneticConfig.MEMETIC_STEPS);
+        solve(new GeneticAlgorithm(config), boardSize, "Génétique (mémétique)");
+    }
+    
+    public void solveMinConflicts(int boardSize) {
+        solve(new MinConflictsSearch(), boardSize, "Min-conflits");
+    }
+    
+    public void solveForwardChecking(int boardSize) {
+        solve(cached(AlgorithmType.FORWARD_CHECKING, new ForwardCheckingSearch()), boardSize, "Forward checking (MRV)");
+    }
+    
+    public void solveConstructive(int boardSize) {
+        solve(cached(AlgorithmType.CONSTRUCTIVE, new ConstructiveSolver()), boardSize, "Construction explicite");
+    }
+    
+    public void solvePortfolio(int boardSize) {
+        solve(AlgorithmFactory.createPortfolio(Runtime.getRuntime().availableProcessors(), history),
+            boardSize, "Portefeuille");
+    }
+    
+    private SearchAlgorithm cached(AlgorithmType type, SearchAlgorithm algorithm) {
+        return new CachedSearch(algorithm, type.name(), cache);
+    }
+    
+    // Arrête la recherche en cours (sans effet si aucune)
+    public void cancel() {
+        if (currentToken != null) {
+            currentToken.cancel();
+        }
+    }
+    
     private void solve(SearchAlgorithm algorithm, int boardSize, String algorithmName) {
-        SwingWorker<SearchResult, Void> worker = new SwingWorker<>() {
+        // Une nouvelle recherche remplace la précédente
+        cancel();
+        CancellationToken token = new CancellationToken();
+        currentToken = token;
+        
+        SearchContext context = new SearchContext();
+        context.setCancellationToken(token);
+        
+        SwingWorker<SearchResult, SearchProgress> worker = new SwingWorker<>() {
             @Override
             protected SearchResult doInBackground() {
                 view.setStatus("Recherche en cours avec " + algorithmName + "...");
-                return algorithm.solve(boardSize);
+                context.setProgressListener(progress -> publish(progress), PROGRESS_INTERVAL_MS);
+                // Événement JFR nqueens.Solve, sans registre de métriques
+                return new InstrumentedSearch(algorithm, algorithmName, MetricsRegistry.NONE).solve(boardSize, context);
+            }
+            
+            @Override
+            protected void process(List<SearchProgress> chunks) {
+                if (!token.isCancelled()) {
+                    view.displayProgress(chunks.get(chunks.size() - 1));
+                }
             }
             
             @Override
             protected void done() {
+                // Une recherche remplacée par une plus récente ne touche plus à la vue
+                if (currentToken != token) {
+                    return;
+                }
                 try {
                     SearchResult result = get();
+                    view.displaySolution(result);
                     if (result.isSuccess()) {
-                        view.displaySolution(result);
                         view.setStatus(String.format(
-                            "%s - Solution trouvée! Nœuds: %d, Temps: %d ms",
+                            "%s - Solution trouvée! Nœuds: %d, Temps: %d ms%s",
                             algorithmName,
                             result.getNodesExplored(),
-                            result.getTimeMillis()
+                            result.getTimeMillis(),
+                            result.hasSeed() ? ", Graine: " + result.getSeed() : ""
                         ));
+                    } else if (context.isStopped()) {
+                        view.setStatus(algorithmName + " - Recherche arrêtée (" + context.getStopReason() + ")");
                     } else {
                         view.setStatus(algorithmName + " - Aucune solution trouvée");
                     }
@@ -6,23 +6,80 @@ public class Board {
     private int[] queens;
     private int size;
     
+    // Occupation des colonnes, diagonales (col - row) et anti-diagonales (row + col)
+    // sous forme de masques de bits (long[] pour supporter N > 64)
+    private long[] columnMask;
+    private long[] diagonalMask;
+    private long[] antiDiagonalMask;
+    
+    // Compteurs par ligne d'attaque, nécessaires pour retirer une reine sans tout rescanner
+    private int[] columnCounts;
+    private int[] diagonalCounts;
+    private int[] antiDiagonalCounts;
+    
+    // Valeurs maintenues incrémentalement par placeQueen/removeQueen
+    private int depth;
+    private int conflicts;
+    
     public Board(int size) {
         this.size = size;
         this.queens = new int[size];
         Arrays.fill(queens, -1);
+        
+        int lines = Math.max(2 * size - 1, 0);
+        this.columnMask = new long[words(size)];
+        this.diagonalMask = new long[words(lines)];
+        this.antiDiagonalMask = new long[words(lines)];
+        this.columnCounts = new int[size];
+        this.diagonalCounts = new int[lines];
+        this.antiDiagonalCounts = new int[lines];
     }
     
     public Board(Board other) {
         this.size = other.size;
         this.queens = Arrays.copyOf(other.queens, other.size);
+        this.columnMask = other.columnMask.clone();
+        this.diagonalMask = other.diagonalMask.clone();
+        this.antiDiagonalMask = other.antiDiagonalMask.clone();
+        this.columnCounts = other.columnCounts.clone();
+        this.diagonalCounts = other.diagonalCounts.clone();
+        this.antiDiagonalCounts = other.antiDiagonalCounts.clone();
+        this.depth = other.depth;
+        this.conflicts = other.conflicts;
     }
     
     public void placeQueen(int row, int col) {
+        if (queens[row] != -1) {
+            removeQueen(row);
+        }
         queens[row] = col;
+        depth++;
+        
+        int diag = diagonalIndex(row, col);
+        int anti = row + col;
+        
+        // Chaque reine déjà présente sur une même ligne d'attaque forme une nouvelle paire
+        conflicts += columnCounts[col] + diagonalCounts[diag] + antiDiagonalCounts[anti];
+        
+        if (columnCounts[col]++ == 0) setBit(columnMask, col);
+        if (diagonalCounts[diag]++ == 0) setBit(diagonalMask, diag);
+        if (antiDiagonalCounts[anti]++ == 0) setBit(antiDiagonalMask, anti);
     }
     
     public void removeQueen(int row) {
+        int col = queens[row];
+        if (col == -1) return;
         queens[row] = -1;
+        depth--;
+        
+        int diag = diagonalIndex(row, col);
+        int anti = row + col;
+        
+        if (--columnCounts[col] == 0) clearBit(columnMask, col);
+        if (--diagonalCounts[diag] == 0) clearBit(diagonalMask, diag);
+        if (--antiDiagonalCounts[anti] == 0) clearBit(antiDiagonalMask, anti);
+        
+        conflicts -= columnCounts[col] + diagonalCounts[diag] + antiDiagonalCounts[anti];
     }
     
     public int getQueenColumn(int row) {
@@ -37,56 +94,96 @@ public class Board {
         return Arrays.copyOf(queens, size);
     }
     
+    // O(1) : vérifie les masques d'occupation. Toutes les reines posées sont prises
+    // en compte ; les algorithmes remplissant les lignes dans l'ordre, cela revient
+    // à ne regarder que les lignes précédentes.
     public boolean isSafe(int row, int col) {
-        for (int i = 0; i < row; i++) {
-            int queenCol = queens[i];
-            if (queenCol == -1) continue;
-            
-            if (queenCol == col) return false;
-            if (Math.abs(queenCol - col) == Math.abs(i - row)) return false;
+        int current = queens[row];
+        if (current == -1) {
+            return !testBit(columnMask, col)
+                && !testBit(diagonalMask, diagonalIndex(row, col))
+                && !testBit(antiDiagonalMask, row + col);
         }
-        return true;
+        
+        // La reine déjà présente sur cette ligne ne doit pas compter
+        // (sur une même ligne, les trois lignes d'attaque coïncident seulement si current == col)
+        int own = current == col ? 1 : 0;
+        return columnCounts[col] - own == 0
+            && diagonalCounts[diagonalIndex(row, col)] - own == 0
+            && antiDiagonalCounts[row + col] - own == 0;
+    }
+    
+    // Mot word (colonnes 64*word à 64*word+63) des colonnes libres de la ligne row : ni
+    // colonne, ni diagonale, ni anti-diagonale occupée. Les diagonales étant indexées par
+    // col - row + size - 1 et row + col, les deux masques se lisent par simple décalage. O(1).
+    public long freeColumns(int row, int word) {
+        int first = word << 6;
+        long blocked = columnMask[word]
+            | bitsFrom(diagonalMask, first + size - 1 - row)
+            | bitsFrom(antiDiagonalMask, first + row);
+        int remaining = size - first;
+        return remaining >= 64 ? ~blocked : ~blocked & ((1L << remaining) - 1);
+    }
+    
+    // Nombre de mots nécessaires à freeColumns
+    public int columnWords() {
+        return columnMask.length;
     }
     
     public boolean isComplete() {
-        for (int i = 0; i < size; i++) {
-            if (queens[i] == -1) return false;
-        }
-        return countConflicts() == 0;
+        return depth == size && conflicts == 0;
     }
     
     public int countConflicts() {
-        int conflicts = 0;
-        for (int i = 0; i < size; i++) {
-            if (queens[i] == -1) continue;
-            for (int j = i + 1; j < size; j++) {
-                if (queens[j] == -1) continue;
-                
-                if (queens[i] == queens[j]) conflicts++;
-                if (Math.abs(queens[i] - queens[j]) == Math.abs(i - j)) conflicts++;
-            }
-        }
         return conflicts;
     }
     
     public int getLastQueenDistance() {
-        int distance = 0;
-        for (int i = 0; i < size; i++) {
-            if (queens[i] == -1) {
-                distance += size;
-            }
-        }
-        return distance;
+        return (size - depth) * size;
     }
     
     public int getDepth() {
-        int depth = 0;
-        for (int i = 0; i < size; i++) {
-            if (queens[i] != -1) depth++;
-        }
         return depth;
     }
     
+    // Octets des tableaux du plateau (reines, compteurs, masques), hors en-têtes d'objets
+    public long memoryBytes() {
+        return 4L * (queens.length + columnCounts.length + diagonalCounts.length + antiDiagonalCounts.length)
+            + 8L * (columnMask.length + diagonalMask.length + antiDiagonalMask.length);
+    }
+    
+    private int diagonalIndex(int row, int col) {
+        return col - row + size - 1;
+    }
+    
+    private static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+    
+    // 64 bits du masque à partir du bit start (zéros au-delà de la fin)
+    private static long bitsFrom(long[] mask, int start) {
+        int word = start >>> 6;
+        if (word >= mask.length) return 0;
+        int shift = start & 63;
+        long bits = mask[word] >>> shift;
+        if (shift != 0 && word + 1 < mask.length) {
+            bits |= mask[word + 1] << (64 - shift);
+        }
+        return bits;
+    }
+    
+    private static void setBit(long[] mask, int bit) {
+        mask[bit >>> 6] |= 1L << bit;
+    }
+    
+    private static void clearBit(long[] mask, int bit) {
+        mask[bit >>> 6] &= ~(1L << bit);
+    }
+    
+    private static boolean testBit(long[] mask, int bit) {
+        return (mask[bit >>> 6] & (1L << bit)) != 0;
+    }
+    
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -0,0 +1,45 @@
+package src.model;
+
+public class CountResult {
+    private long totalSolutions;
+    private long uniqueSolutions;
+    private long nodesExplored;
+    private long timeMillis;
+    private boolean complete;
+    
+    public CountResult(long totalSolutions, long uniqueSolutions, long nodesExplored, long timeMillis, boolean complete) {
+        this.totalSolutions = totalSolutions;
+        this.uniqueSolutions = uniqueSolutions;
+        this.nodesExplored = nodesExplored;
+        this.timeMillis = timeMillis;
+        this.complete = complete;
+    }
+    
+    public long getTotalSolutions() {
+        return totalSolutions;
+    }
+    
+    // Nombre de classes de solutions à rotations/réflexions près
+    public long getUniqueSolutions() {
+        return uniqueSolutions;
+    }
+    
+    public long getNodesExplored() {
+        return nodesExplored;
+    }
+    
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+    
+    // Faux si l'énumération a été interrompue par le listener
+    public boolean isComplete() {
+        return complete;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("Solutions: %d (uniques: %d)%s\nNœuds explorés: %d\nTemps: %d ms",
+            totalSolutions, uniqueSolutions, complete ? "" : " [interrompu]", nodesExplored, timeMillis);
+    }
+}
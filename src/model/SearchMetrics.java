@@ -0,0 +1,184 @@
+package src.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Mesures détaillées d'une exécution, remplies par l'algorithme. Les durées viennent de
+// System.nanoTime ; un compteur non applicable à l'algorithme reste à 0.
+public class SearchMetrics {
+    private long totalNanos;
+    // Durée par phase, dans l'ordre de première apparition (init, search, evolve, ...)
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+    
+    private long nodesExpanded;
+    private long nodesGenerated;
+    // Taille maximale de la frontière (file BFS, liste ouverte A*) ; 0 pour les recherches en profondeur
+    private long peakFrontier;
+    // Nœuds développés à nouveau après oubli ou changement de seuil (IDA*, SMA*)
+    private long reexpansions;
+    // Octets occupés au pic par les structures de la recherche, -1 si non mesuré
+    private long peakMemoryBytes = -1;
+    
+    // Algorithmes génétiques
+    private long generations;
+    private long evaluations;
+    
+    // Octets alloués par les threads de l'algorithme, -1 si la JVM ne le mesure pas
+    private long allocatedBytes = -1;
+    
+    // Algorithme qui a produit le résultat quand il a été choisi parmi plusieurs (portefeuille)
+    private String solver;
+    
+    // Vrai si le résultat a été servi par un cache (les compteurs sont alors ceux du calcul d'origine)
+    private boolean cacheHit;
+    
+    public SearchMetrics() {
+    }
+    
+    // Copie indépendante (résultats mémorisés par un cache)
+    public SearchMetrics(SearchMetrics other) {
+        this.totalNanos = other.totalNanos;
+        this.phaseNanos.putAll(other.phaseNanos);
+        this.nodesExpanded = other.nodesExpanded;
+        this.nodesGenerated = other.nodesGenerated;
+        this.peakFrontier = other.peakFrontier;
+        this.reexpansions = other.reexpansions;
+        this.peakMemoryBytes = other.peakMemoryBytes;
+        this.generations = other.generations;
+        this.evaluations = other.evaluations;
+        this.allocatedBytes = other.allocatedBytes;
+        this.solver = other.solver;
+        this.cacheHit = other.cacheHit;
+    }
+    
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+    
+    public void setTotalNanos(long totalNanos) {
+        this.totalNanos = totalNanos;
+    }
+    
+    public Map<String, Long> getPhaseNanos() {
+        return Collections.unmodifiableMap(phaseNanos);
+    }
+    
+    // Les durées d'une même phase s'additionnent (phases répétées à chaque redémarrage)
+    public void addPhaseNanos(String phase, long nanos) {
+        phaseNanos.merge(phase, nanos, Long::sum);
+    }
+    
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+    
+    public void setNodesExpanded(long nodesExpanded) {
+        this.nodesExpanded = nodesExpanded;
+    }
+    
+    public long getNodesGenerated() {
+        return nodesGenerated;
+    }
+    
+    public void setNodesGenerated(long nodesGenerated) {
+        this.nodesGenerated = nodesGenerated;
+    }
+    
+    public long getPeakFrontier() {
+        return peakFrontier;
+    }
+    
+    public void setPeakFrontier(long peakFrontier) {
+        this.peakFrontier = peakFrontier;
+    }
+    
+    public long getReexpansions() {
+        return reexpansions;
+    }
+    
+    public void setReexpansions(long reexpansions) {
+        this.reexpansions = reexpansions;
+    }
+    
+    public long getPeakMemoryBytes() {
+        return peakMemoryBytes;
+    }
+    
+    public void setPeakMemoryBytes(long peakMemoryBytes) {
+        this.peakMemoryBytes = peakMemoryBytes;
+    }
+    
+    public long getGenerations() {
+        return generations;
+    }
+    
+    public void setGenerations(long generations) {
+        this.generations = generations;
+    }
+    
+    public long getEvaluations() {
+        return evaluations;
+    }
+    
+    public void setEvaluations(long evaluations) {
+        this.evaluations = evaluations;
+    }
+    
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+    
+    public void setAllocatedBytes(long allocatedBytes) {
+        this.allocatedBytes = allocatedBytes;
+    }
+    
+    public String getSolver() {
+        return solver;
+    }
+    
+    public void setSolver(String solver) {
+        this.solver = solver;
+    }
+    
+    public boolean isCacheHit() {
+        return cacheHit;
+    }
+    
+    public void setCacheHit(boolean cacheHit) {
+        this.cacheHit = cacheHit;
+    }
+    
+    public double getNodesPerSecond() {
+        return totalNanos > 0 ? nodesExpanded * 1e9 / totalNanos : 0;
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Nœuds développés: %d, générés: %d, frontière max: %d, %.0f nœuds/s",
+            nodesExpanded, nodesGenerated, peakFrontier, getNodesPerSecond()));
+        if (reexpansions > 0) {
+            sb.append(String.format("\nRedéveloppements: %d", reexpansions));
+        }
+        if (peakMemoryBytes >= 0) {
+            sb.append(String.format("\nMémoire de recherche max: %d octets", peakMemoryBytes));
+        }
+        if (generations > 0) {
+            sb.append(String.format("\nGénérations: %d, évaluations: %d", generations, evaluations));
+        }
+        if (solver != null) {
+            sb.append("\nRésolu par: ").append(solver);
+        }
+        if (cacheHit) {
+            sb.append("\nServi par le cache (mesures du calcul d'origine)");
+        }
+        for (Map.Entry<String, Long> phase : phaseNanos.entrySet()) {
+            sb.append(String.format("\n%s: %.3f ms", phase.getKey(), phase.getValue() / 1e6));
+        }
+        if (allocatedBytes >= 0) {
+            sb.append(String.format("\nAlloué: %d octets", allocatedBytes));
+        }
+        return sb.toString();
+    }
+}
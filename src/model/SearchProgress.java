@@ -0,0 +1,43 @@
+package src.model;
+
+public class SearchProgress {
+    private long nodesExplored;
+    private long elapsedMillis;
+    private int depth;
+    private int bestFitness;
+    
+    public SearchProgress(long nodesExplored, long elapsedMillis, int depth, int bestFitness) {
+        this.nodesExplored = nodesExplored;
+        this.elapsedMillis = elapsedMillis;
+        this.depth = depth;
+        this.bestFitness = bestFitness;
+    }
+    
+    public long getNodesExplored() {
+        return nodesExplored;
+    }
+    
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+    
+    public double getNodesPerSecond() {
+        return elapsedMillis > 0 ? nodesExplored * 1000.0 / elapsedMillis : 0;
+    }
+    
+    // Profondeur courante (ligne) pour les recherches arborescentes, -1 sinon
+    public int getDepth() {
+        return depth;
+    }
+    
+    // Meilleure fitness (conflits restants) pour les métaheuristiques, -1 sinon
+    public int getBestFitness() {
+        return bestFitness;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("Nœuds: %d (%.0f/s), profondeur: %d, fitness: %d, temps: %d ms",
+            nodesExplored, getNodesPerSecond(), depth, bestFitness, elapsedMillis);
+    }
+}
@@ -2,22 +2,32 @@ package src.model;
 
 public class SearchResult {
     private Board solution;
-    private int nodesExplored;
+    private long nodesExplored;
     private long timeMillis;
     private boolean success;
+    // Graine des algorithmes stochastiques, pour rejouer exactement l'exécution
+    private boolean seeded;
+    private long seed;
+    private SearchMetrics metrics = new SearchMetrics();
     
-    public SearchResult(Board solution, int nodesExplored, long timeMillis, boolean success) {
+    public SearchResult(Board solution, long nodesExplored, long timeMillis, boolean success) {
         this.solution = solution;
         this.nodesExplored = nodesExplored;
         this.timeMillis = timeMillis;
         this.success = success;
     }
     
+    public SearchResult(Board solution, long nodesExplored, long timeMillis, boolean success, long seed) {
+        this(solution, nodesExplored, timeMillis, success);
+        this.seeded = true;
+        this.seed = seed;
+    }
+    
     public Board getSolution() {
         return solution;
     }
     
-    public int getNodesExplored() {
+    public long getNodesExplored() {
         return nodesExplored;
     }
     
@@ -29,6 +39,22 @@ public class SearchResult {
         return success;
     }
     
+    public SearchMetrics getMetrics() {
+        return metrics;
+    }
+    
+    public void setMetrics(SearchMetrics metrics) {
+        this.metrics = metrics;
+    }
+    
+    public boolean hasSeed() {
+        return seeded;
+    }
+    
+    public long getSeed() {
+        return seed;
+    }
+    
     @Override
     public String toString() {
         return String.format("Solution trouvée: %s\nNœuds explorés: %d\nTemps: %d ms", 
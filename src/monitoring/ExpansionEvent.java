@@ -0,0 +1,25 @@
+package src.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Échantillon d'expansion A* : émis une fois par intervalle de vérification
+// (SearchContext.CHECK_INTERVAL expansions), jamais dans la boucle interne
+@Name("nqueens.AStarExpansion")
+@Label("Expansion A* (échantillon)")
+@Category({"N-Reines", "A*"})
+public class ExpansionEvent extends Event {
+    @Label("Nœuds développés")
+    public long nodesExpanded;
+    
+    @Label("Profondeur")
+    public int depth;
+    
+    @Label("Coût f")
+    public int fCost;
+    
+    @Label("Taille de la liste ouverte")
+    public int openSize;
+}
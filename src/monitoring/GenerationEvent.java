@@ -0,0 +1,21 @@
+package src.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Une génération de l'algorithme génétique (une île dans le modèle en îles)
+@Name("nqueens.Generation")
+@Label("Génération")
+@Category({"N-Reines", "Génétique"})
+public class GenerationEvent extends Event {
+    @Label("Génération")
+    public long generation;
+    
+    @Label("Meilleure fitness")
+    public int bestFitness;
+    
+    @Label("Évaluations")
+    public long evaluations;
+}
@@ -0,0 +1,75 @@
+package src.monitoring;
+
+import src.algorithm.SearchAlgorithm;
+import src.algorithm.SearchContext;
+import src.model.SearchMetrics;
+import src.model.SearchResult;
+import java.util.Locale;
+
+// Décorateur d'observabilité : un événement JFR par résolution et les métriques
+// agrégées (latence par algorithme et N, nœuds, nœuds/s, allocations). Ne touche pas
+// aux boucles internes. L'interface, la CLI et le service passent tous par lui ; avec
+// MetricsRegistry.NONE et sans enregistrement JFR, le coût est négligeable.
+public class InstrumentedSearch implements SearchAlgorithm {
+    // Latence en secondes
+    private static final double[] LATENCY_BUCKETS = {
+        0.0001, 0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5, 10, 30, 60, 300
+    };
+    private static final double[] RATE_BUCKETS = {1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9};
+    
+    private final SearchAlgorithm delegate;
+    private final String name;
+    private final MetricsRegistry registry;
+    
+    public InstrumentedSearch(SearchAlgorithm delegate, String name, MetricsRegistry registry) {
+        this.delegate = delegate;
+        this.name = name;
+        this.registry = registry;
+    }
+    
+    @Override
+    public SearchResult solve(int boardSize, SearchContext context) {
+        SolveEvent event = new SolveEvent();
+        event.begin();
+        long start = System.nanoTime();
+        
+        SearchResult result = delegate.solve(boardSize, context);
+        
+        long elapsed = System.nanoTime() - start;
+        SearchMetrics metrics = result.getMetrics();
+        String status = context.isStopped() ? context.getStopReason().name().toLowerCase(Locale.ROOT) : "ok";
+        String n = Integer.toString(boardSize);
+        
+        event.end();
+        if (event.shouldCommit()) {
+            event.algorithm = name;
+            event.boardSize = boardSize;
+            event.success = result.isSuccess();
+            event.status = status;
+            event.nodesExpanded = metrics.getNodesExpanded();
+            event.nodesGenerated = metrics.getNodesGenerated();
+            event.commit();
+        }
+        
+        registry.count("nqueens_solves_total", "Résolutions terminées", 1,
+            "algorithm", name, "status", status, "success", Boolean.toString(result.isSuccess()));
+        registry.observe("nqueens_solve_duration_seconds", "Durée de résolution", LATENCY_BUCKETS,
+            elapsed / 1e9, "algorithm", name, "n", n);
+        if (metrics.isCacheHit()) {
+            registry.count("nqueens_cache_hits_total", "Résolutions servies par le cache", 1, "algorithm", name);
+            return result;
+        }
+        
+        registry.count("nqueens_nodes_expanded_total", "Nœuds développés", metrics.getNodesExpanded(), "algorithm", name);
+        registry.count("nqueens_nodes_generated_total", "Nœuds générés", metrics.getNodesGenerated(), "algorithm", name);
+        if (metrics.getAllocatedBytes() >= 0) {
+            registry.count("nqueens_allocated_bytes_total", "Octets alloués par les solveurs",
+                metrics.getAllocatedBytes(), "algorithm", name);
+        }
+        if (metrics.getNodesExpanded() > 0) {
+            registry.observe("nqueens_nodes_per_second", "Débit de nœuds développés par résolution", RATE_BUCKETS,
+                metrics.getNodesPerSecond(), "algorithm", name);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,22 @@
+package src.monitoring;
+
+// Registre de métriques interchangeable. Les étiquettes sont passées par paires
+// (nom, valeur). NONE ne fait rien : c'est le registre par défaut.
+public interface MetricsRegistry {
+    
+    MetricsRegistry NONE = new MetricsRegistry() {
+        @Override
+        public void count(String name, String help, long amount, String... labels) {
+        }
+        
+        @Override
+        public void observe(String name, String help, double[] buckets, double value, String... labels) {
+        }
+    };
+    
+    // Ajoute amount à un compteur monotone
+    void count(String name, String help, long amount, String... labels);
+    
+    // Enregistre une valeur dans un histogramme (bornes supérieures croissantes des classes)
+    void observe(String name, String help, double[] buckets, double value, String... labels);
+}
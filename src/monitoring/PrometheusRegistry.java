@@ -0,0 +1,126 @@
+package src.monitoring;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+// Registre en mémoire exportable au format texte de Prometheus (version 0.0.4).
+// Les compteurs utilisent des LongAdder : pas de contention entre threads solveurs.
+public class PrometheusRegistry implements MetricsRegistry {
+    
+    private static final class Family {
+        final String help;
+        final double[] buckets;  // null pour un compteur
+        final Map<String, Series> series = new ConcurrentHashMap<>();
+        
+        Family(String help, double[] buckets) {
+            this.help = help;
+            this.buckets = buckets;
+        }
+    }
+    
+    private static final class Series {
+        final LongAdder count = new LongAdder();
+        final DoubleAdder sum = new DoubleAdder();
+        final LongAdder[] bucketCounts;
+        
+        Series(int buckets) {
+            bucketCounts = new LongAdder[buckets];
+            for (int i = 0; i < buckets; i++) {
+                bucketCounts[i] = new LongAdder();
+            }
+        }
+    }
+    
+    private final Map<String, Family> families = new ConcurrentHashMap<>();
+    
+    @Override
+    public void count(String name, String help, long amount, String... labels) {
+        Family family = families.computeIfAbsent(name, k -> new Family(help, null));
+        series(family, labels).count.add(amount);
+    }
+    
+    @Override
+    public void observe(String name, String help, double[] buckets, double value, String... labels) {
+        Family family = families.computeIfAbsent(name, k -> new Family(help, buckets.clone()));
+        Series series = series(family, labels);
+        series.count.increment();
+        series.sum.add(value);
+        for (int i = 0; i < family.buckets.length; i++) {
+            if (value <= family.buckets[i]) {
+                series.bucketCounts[i].increment();
+                break;
+            }
+        }
+    }
+    
+    private static Series series(Family family, String[] labels) {
+        int buckets = family.buckets == null ? 0 : family.buckets.length;
+        return family.series.computeIfAbsent(labelText(labels), k -> new Series(buckets));
+    }
+    
+    // a="x",b="y" (sans accolades), avec l'échappement Prometheus des valeurs
+    private static String labelText(String[] labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Étiquettes attendues par paires nom/valeur");
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) sb.append(',');
+            sb.append(labels[i]).append("=\"")
+                .append(labels[i + 1].replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n"))
+                .append('"');
+        }
+        return sb.toString();
+    }
+    
+    public void write(Writer out) throws IOException {
+        // Ordre stable pour faciliter la lecture et les comparaisons
+        for (Map.Entry<String, Family> entry : new TreeMap<>(families).entrySet()) {
+            String name = entry.getKey();
+            Family family = entry.getValue();
+            out.write("# HELP " + name + " " + family.help + "\n");
+            out.write("# TYPE " + name + (family.buckets == null ? " counter\n" : " histogram\n"));
+            
+            for (Map.Entry<String, Series> series : new TreeMap<>(family.series).entrySet()) {
+                String labels = series.getKey();
+                Series values = series.getValue();
+                if (family.buckets == null) {
+                    out.write(name + braces(labels) + " " + values.count.sum() + "\n");
+                    continue;
+                }
+                
+                // Les classes Prometheus sont cumulatives
+                long cumulative = 0;
+                for (int i = 0; i < family.buckets.length; i++) {
+                    cumulative += values.bucketCounts[i].sum();
+                    out.write(name + "_bucket" + braces(join(labels, "le=\"" + number(family.buckets[i]) + "\""))
+                        + " " + cumulative + "\n");
+                }
+                long count = values.count.sum();
+                out.write(name + "_bucket" + braces(join(labels, "le=\"+Inf\"")) + " " + count + "\n");
+                out.write(name + "_sum" + braces(labels) + " " + number(values.sum.sum()) + "\n");
+                out.write(name + "_count" + braces(labels) + " " + count + "\n");
+            }
+        }
+    }
+    
+    private static String join(String labels, String extra) {
+        return labels.isEmpty() ? extra : labels + "," + extra;
+    }
+    
+    private static String braces(String labels) {
+        return labels.isEmpty() ? "" : "{" + labels + "}";
+    }
+    
+    private static String number(double value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e15
+            ? Long.toString((long) value)
+            : String.format(Locale.ROOT, "%s", value);
+    }
+}
@@ -0,0 +1,21 @@
+package src.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Réinitialisation partielle de la population après stagnation
+@Name("nqueens.StagnationRestart")
+@Label("Redémarrage sur stagnation")
+@Category({"N-Reines", "Génétique"})
+public class RestartEvent extends Event {
+    @Label("Génération")
+    public long generation;
+    
+    @Label("Meilleure fitness")
+    public int bestFitness;
+    
+    @Label("Individus réinitialisés")
+    public int randomized;
+}
@@ -0,0 +1,32 @@
+package src.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Une résolution complète (début et fin = durée de l'événement), émise par InstrumentedSearch
+@Name("nqueens.Solve")
+@Label("Résolution")
+@Category("N-Reines")
+@Description("Appel complet de SearchAlgorithm.solve")
+public class SolveEvent extends Event {
+    @Label("Algorithme")
+    public String algorithm;
+    
+    @Label("N")
+    public int boardSize;
+    
+    @Label("Succès")
+    public boolean success;
+    
+    @Label("Arrêt")
+    public String status;
+    
+    @Label("Nœuds développés")
+    public long nodesExpanded;
+    
+    @Label("Nœuds générés")
+    public long nodesGenerated;
+}
@@ -0,0 +1,89 @@
+package src.service;
+
+import src.algorithm.AlgorithmType;
+import java.util.Objects;
+
+// Demande de résolution adressée au SolverService. Immuable : sert aussi de clé pour
+// regrouper les demandes identiques en cours (mêmes algorithme, N, budgets et graine).
+public final class SolveRequest {
+    private final AlgorithmType type;
+    private final int boardSize;
+    private final long timeLimitMillis;
+    private final long nodeLimit;
+    // null = graine tirée au hasard par les algorithmes stochastiques
+    private final Long seed;
+    
+    public SolveRequest(AlgorithmType type, int boardSize) {
+        this(type, boardSize, 0, 0, null);
+    }
+    
+    // Budgets : 0 = pas de limite (voir SearchContext)
+    public SolveRequest(AlgorithmType type, int boardSize, long timeLimitMillis, long nodeLimit) {
+        this(type, boardSize, timeLimitMillis, nodeLimit, null);
+    }
+    
+    public SolveRequest(AlgorithmType type, int boardSize, long timeLimitMillis, long nodeLimit, Long seed) {
+        if (type == null) {
+            throw new IllegalArgumentException("Algorithme manquant");
+        }
+        if (boardSize < 1) {
+            throw new IllegalArgumentException("Taille invalide: " + boardSize);
+        }
+        if (timeLimitMillis < 0 || nodeLimit < 0) {
+            throw new IllegalArgumentException("Budget négatif");
+        }
+        this.type = type;
+        this.boardSize = boardSize;
+        this.timeLimitMillis = timeLimitMillis;
+        this.nodeLimit = nodeLimit;
+        this.seed = seed;
+    }
+    
+    public AlgorithmType getType() {
+        return type;
+    }
+    
+    public int getBoardSize() {
+        return boardSize;
+    }
+    
+    public long getTimeLimitMillis() {
+        return timeLimitMillis;
+    }
+    
+    public long getNodeLimit() {
+        return nodeLimit;
+    }
+    
+    public boolean hasSeed() {
+        return seed != null;
+    }
+    
+    public long getSeed() {
+        return seed;
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof SolveRequest)) return false;
+        SolveRequest other = (SolveRequest) obj;
+        return type == other.type
+            && boardSize == other.boardSize
+            && timeLimitMillis == other.timeLimitMillis
+            && nodeLimit == other.nodeLimit
+            && Objects.equals(seed, other.seed);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, boardSize, timeLimitMillis, nodeLimit, seed);
+    }
+    
+    @Override
+    public String toString() {
+        return type.name() + "(n=" + boardSize
+            + (timeLimitMillis > 0 ? ", temps=" + timeLimitMillis + "ms" : "")
+            + (nodeLimit > 0 ? ", nœuds=" + nodeLimit : "")
+            + (seed != null ? ", graine=" + seed : "") + ")";
+    }
+}
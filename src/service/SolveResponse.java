@@ -0,0 +1,49 @@
+package src.service;
+
+import src.algorithm.SearchContext.StopReason;
+import src.model.SearchResult;
+
+// Réponse du SolverService à une SolveRequest
+public class SolveResponse {
+    private final SolveRequest request;
+    private final SearchResult result;
+    private final StopReason stopReason;
+    private final long queueNanos;
+    private final boolean shared;
+    
+    public SolveResponse(SolveRequest request, SearchResult result, StopReason stopReason,
+                         long queueNanos, boolean shared) {
+        this.request = request;
+        this.result = result;
+        this.stopReason = stopReason;
+        this.queueNanos = queueNanos;
+        this.shared = shared;
+    }
+    
+    public SolveRequest getRequest() {
+        return request;
+    }
+    
+    public SearchResult getResult() {
+        return result;
+    }
+    
+    // NONE si la recherche est allée à son terme
+    public StopReason getStopReason() {
+        return stopReason;
+    }
+    
+    public boolean isStopped() {
+        return stopReason != StopReason.NONE;
+    }
+    
+    // Attente dans la file avant qu'un worker prenne la recherche
+    public long getQueueNanos() {
+        return queueNanos;
+    }
+    
+    // true si la réponse vient d'une recherche identique déjà en cours
+    public boolean isShared() {
+        return shared;
+    }
+}
@@ -0,0 +1,303 @@
+package src.service;
+
+import src.algorithm.AlgorithmFactory;
+import src.algorithm.AlgorithmType;
+import src.algorithm.PortfolioHistory;
+import src.algorithm.ResultCache;
+import src.algorithm.SearchAlgorithm;
+import src.algorithm.SearchContext;
+import src.model.SearchResult;
+import src.monitoring.InstrumentedSearch;
+import src.monitoring.MetricsRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Service de résolution indépendant de l'interface graphique, prévu pour être placé
+// derrière une couche RPC.
+// - Les recherches (CPU) tournent sur un pool fixe de threads plateforme, un par cœur
+//   par défaut ; chaque recherche est mono-thread, le parallélisme vient du pool.
+// - Les réponses sont livrées sur des threads virtuels : les étapes enchaînées par
+//   l'appelant ne bloquent jamais un worker.
+// - Admission bornée : au plus workers + queueCapacity recherches admises. Au-delà,
+//   submit(request) échoue immédiatement (RejectedExecutionException dans le future)
+//   et submit(request, timeout, unit) attend une place (contre-pression).
+// - Les demandes identiques en cours partagent une seule recherche ; elle n'est annulée
+//   que lorsque tous ses appelants ont annulé leur future.
+// - Les demandes PORTFOLIO partagent l'historique du service, enregistré par close().
+public class SolverService implements AutoCloseable {
+    // Capacité de la file par worker dans la configuration par défaut
+    private static final int QUEUE_PER_WORKER = 64;
+    private static final int CACHE_ENTRIES = 1024;
+    private static final double[] WAIT_BUCKETS = {0.0001, 0.001, 0.01, 0.1, 1, 10, 60};
+    
+    private final ThreadPoolExecutor workers;
+    private final ExecutorService responses = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore admission;
+    private final ConcurrentHashMap<SolveRequest, Job> inFlight = new ConcurrentHashMap<>();
+    private final ResultCache cache;
+    private final PortfolioHistory history;
+    private final MetricsRegistry registry;
+    
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile boolean closed;
+    
+    public SolverService() {
+        this(Runtime.getRuntime().availableProcessors(),
+             Runtime.getRuntime().availableProcessors() * QUEUE_PER_WORKER,
+             new ResultCache(CACHE_ENTRIES), MetricsRegistry.NONE);
+    }
+    
+    // cache : résultats des algorithmes déterministes ou à graine fixée (peut être partagé)
+    public SolverService(int workerCount, int queueCapacity, ResultCache cache, MetricsRegistry registry) {
+        this(workerCount, queueCapacity, cache, new PortfolioHistory(), registry);
+    }
+    
+    // history : historique des courses PORTFOLIO (persistant s'il a été créé avec un fichier)
+    public SolverService(int workerCount, int queueCapacity, ResultCache cache, PortfolioHistory history,
+                         MetricsRegistry registry) {
+        if (workerCount < 1 || queueCapacity < 0) {
+            throw new IllegalArgumentException("Capacité invalide");
+        }
+        this.cache = cache;
+        this.history = history;
+        this.registry = registry;
+        this.admission = new Semaphore(workerCount + queueCapacity);
+        
+        AtomicInteger threadIndex = new AtomicInteger();
+        // La file n'a pas besoin d'être bornée : le sémaphore limite déjà les tâches admises
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), task -> {
+                Thread thread = new Thread(task, "solver-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+    
+    // N'attend pas : rejette la demande si le service est saturé
+    public CompletableFuture<SolveResponse> submit(SolveRequest request) {
+        CompletableFuture<SolveResponse> response = joinInFlight(request);
+        if (response != null) {
+            return response;
+        }
+        return admission.tryAcquire() ? start(request) : rejected(request);
+    }
+    
+    // Attend au plus timeout une place libre ; à appeler depuis un thread virtuel
+    public CompletableFuture<SolveResponse> submit(SolveRequest request, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        CompletableFuture<SolveResponse> response = joinInFlight(request);
+        if (response != null) {
+            return response;
+        }
+        return admission.tryAcquire(timeout, unit) ? start(request) : rejected(request);
+    }
+    
+    // Bloquant : attend une place puis le résultat
+    public SolveResponse solve(SolveRequest request) throws InterruptedException, ExecutionException {
+        return submit(request, Long.MAX_VALUE, TimeUnit.NANOSECONDS).get();
+    }
+    
+    // Recherches admises et pas encore terminées (en cours ou en file)
+    public int getInFlight() {
+        return inFlight.size();
+    }
+    
+    public int getQueued() {
+        return workers.getQueue().size();
+    }
+    
+    public long getAdmitted() {
+        return admitted.sum();
+    }
+    
+    public long getShared() {
+        return shared.sum();
+    }
+    
+    public long getRejected() {
+        return rejected.sum();
+    }
+    
+    public ResultCache getCache() {
+        return cache;
+    }
+    
+    public PortfolioHistory getHistory() {
+        return history;
+    }
+    
+    // Annule les recherches en cours, attend l'arrêt des workers puis enregistre l'historique
+    @Override
+    public void close() {
+        closed = true;
+        for (Job job : inFlight.values()) {
+            job.context.getCancellationToken().cancel();
+        }
+        workers.shutdown();
+        try {
+            workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        responses.close();
+        history.save();
+    }
+    
+    private CompletableFuture<SolveResponse> joinInFlight(SolveRequest request) {
+        Job job = closed ? null : inFlight.get(request);
+        if (job == null || !job.join()) {
+            return null;
+        }
+        shared.increment();
+        count("shared");
+        return subscribe(job, true);
+    }
+    
+    // Appelé avec une place d'admission acquise
+    private CompletableFuture<SolveResponse> start(SolveRequest request) {
+        if (closed) {
+            admission.release();
+            return rejected(request);
+        }
+        
+        Job job = new Job(request);
+        Job existing;
+        while ((existing = inFlight.putIfAbsent(request, job)) != null) {
+            // Une demande identique a été admise entre-temps : la place n'est pas utilisée
+            if (existing.join()) {
+                admission.release();
+                shared.increment();
+                count("shared");
+                return subscribe(existing, true);
+            }
+            // Recherche abandonnée par tous ses appelants : on la remplace
+            inFlight.remove(request, existing);
+        }
+        
+        try {
+            workers.execute(job);
+        } catch (RejectedExecutionException e) {
+            // Service fermé pendant l'admission
+            inFlight.remove(request, job);
+            admission.release();
+            return rejected(request);
+        }
+        admitted.increment();
+        count("admitted");
+        return subscribe(job, false);
+    }
+    
+    private CompletableFuture<SolveResponse> rejected(SolveRequest request) {
+        rejected.increment();
+        count("rejected");
+        return CompletableFuture.failedFuture(new RejectedExecutionException(
+            (closed ? "Service arrêté: " : "Service saturé: ") + request));
+    }
+    
+    // Un future par appelant : l'annuler ne concerne que cet appelant
+    private CompletableFuture<SolveResponse> subscribe(Job job, boolean isShared) {
+        CompletableFuture<SolveResponse> response = new CompletableFuture<>();
+        job.done.whenCompleteAsync((result, error) -> {
+            if (error != null) {
+                response.completeExceptionally(error);
+            } else {
+                response.complete(new SolveResponse(job.request, result,
+                    job.context.getStopReason(), job.startedNanos - job.createdNanos, isShared));
+            }
+        }, responses);
+        response.whenComplete((r, e) -> {
+            if (response.isCancelled()) {
+                job.leave();
+            }
+        });
+        return response;
+    }
+    
+    private void finish(Job job) {
+        inFlight.remove(job.request, job);
+        admission.release();
+    }
+    
+    private void count(String outcome) {
+        registry.count("nqueens_service_requests_total", "Demandes reçues par le service",
+            1, "outcome", outcome);
+    }
+    
+    private SearchAlgorithm create(SolveRequest request) {
+        AlgorithmType type = request.getType();
+        SearchAlgorithm algorithm = type == AlgorithmType.PORTFOLIO
+            ? AlgorithmFactory.createPortfolio(1, history)
+            : request.hasSeed()
+            ? AlgorithmFactory.create(type, 1, request.getSeed(), cache)
+            : AlgorithmFactory.create(type, 1, cache);
+        return new InstrumentedSearch(algorithm, type.name(), registry);
+    }
+    
+    private final class Job implements Runnable {
+        private final SolveRequest request;
+        private final SearchContext context = new SearchContext();
+        private final CompletableFuture<SearchResult> done = new CompletableFuture<>();
+        // Appelants en attente ; -1 une fois la recherche abandonnée
+        private final AtomicInteger waiters = new AtomicInteger(1);
+        private final long createdNanos = System.nanoTime();
+        private volatile long startedNanos;
+        
+        Job(SolveRequest request) {
+            this.request = request;
+            // Le budget de temps court à partir du démarrage de la recherche, pas de l'admission
+            context.setTimeLimitMillis(request.getTimeLimitMillis());
+            context.setNodeLimit(request.getNodeLimit());
+        }
+        
+        boolean join() {
+            int current;
+            do {
+                current = waiters.get();
+                if (current < 0) return false;
+            } while (!waiters.compareAndSet(current, current + 1));
+            return true;
+        }
+        
+        void leave() {
+            if (waiters.decrementAndGet() != 0 || done.isDone() || !waiters.compareAndSet(0, -1)) {
+                return;
+            }
+            context.getCancellationToken().cancel();
+            // Encore en file : on libère sa place sans attendre qu'un worker la prenne
+            if (workers.remove(this)) {
+                done.cancel(false);
+                finish(this);
+            }
+        }
+        
+        @Override
+        public void run() {
+            startedNanos = System.nanoTime();
+            registry.observe("nqueens_service_queue_wait_seconds", "Attente en file avant résolution",
+                WAIT_BUCKETS, (startedNanos - createdNanos) / 1e9, "algorithm", request.getType().name());
+            try {
+                if (context.getCancellationToken().isCancelled()) {
+                    done.cancel(false);
+                } else {
+                    done.complete(create(request).solve(request.getBoardSize(), context));
+                }
+            } catch (Throwable e) {
+                done.completeExceptionally(e);
+            } finally {
+                finish(this);
+            }
+        }
+    }
+}
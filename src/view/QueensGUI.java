@@ -2,8 +2,10 @@ package src.view;
 
 import javax.swing.*;
 import javax.imageio.ImageIO;
+import src.algorithm.AlgorithmType;
 import src.control.SolverController;
 import src.model.Board;
+import src.model.SearchProgress;
 import src.model.SearchResult;
 import java.awt.*;
 import java.awt.image.BufferedImage;
@@ -18,11 +20,14 @@ public class QueensGUI extends JFrame {
     private JRadioButton astarH1Radio;
     private JRadioButton astarH2Radio;
     private JRadioButton geneticRadio;
+    private JRadioButton otherRadio;
+    private JComboBox<AlgorithmType> otherCombo;
     private ButtonGroup algorithmGroup;
     private JLabel timeLabel;
     private JLabel parcoruLabel;
     private JLabel creeLabel;
     private JButton solveButton;
+    private JButton stopButton;
     private SolverController controller;
     private Board currentBoard;
     private int cellSize = 50;
@@ -103,6 +108,30 @@ public class QueensGUI extends JFrame {
         
         geneticRadio = createAlgorithmRadio("Génétique", true);
         rightPanel.add(geneticRadio);
+        rightPanel.add(Box.createRigidArea(new Dimension(0, 10)));
+        
+        // Les autres algorithmes, choisis dans une liste
+        otherRadio = createAlgorithmRadio("Autre :", false);
+        rightPanel.add(otherRadio);
+        otherCombo = new JComboBox<>();
+        for (AlgorithmType type : AlgorithmType.values()) {
+            if (!isMainAlgorithm(type)) {
+                otherCombo.addItem(type);
+            }
+        }
+        otherCombo.setRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                Object text = value instanceof AlgorithmType ? ((AlgorithmType) value).getDisplayName() : value;
+                return super.getListCellRendererComponent(list, text, index, isSelected, cellHasFocus);
+            }
+        });
+        otherCombo.setFont(new Font("Arial", Font.PLAIN, 14));
+        otherCombo.setMaximumSize(new Dimension(250, 30));
+        otherCombo.setAlignmentX(Component.LEFT_ALIGNMENT);
+        otherCombo.addActionListener(_ -> otherRadio.setSelected(true));
+        rightPanel.add(otherCombo);
         
         rightPanel.add(Box.createRigidArea(new Dimension(0, 20)));
         
@@ -124,15 +153,15 @@ public class QueensGUI extends JFrame {
         parcoruLabel.setFont(new Font("Arial", Font.BOLD, 16));
         JPanel parcoruPanel = createStatPanel("Parcouru", parcoruLabel);
         rightPanel.add(parcoruPanel);
-
+        
         rightPanel.add(Box.createRigidArea(new Dimension(0, 10)));
-
+        
         // Crée (Nodes Created)
         creeLabel = new JLabel("0", SwingConstants.CENTER);
         creeLabel.setFont(new Font("Arial", Font.BOLD, 16));
         JPanel creePanel = createStatPanel("Crée", creeLabel);
         rightPanel.add(creePanel);
-
+        
         
         mainPanel.add(rightPanel, BorderLayout.EAST);
         
@@ -144,6 +173,11 @@ public class QueensGUI extends JFrame {
         solveButton.setPreferredSize(new Dimension(150, 40));
         solveButton.addActionListener(_ -> solve());
         bottomPanel.add(solveButton);
+        stopButton = new JButton("Arrêter");
+        stopButton.setFont(new Font("Arial", Font.BOLD, 16));
+        stopButton.setPreferredSize(new Dimension(150, 40));
+        stopButton.addActionListener(_ -> controller.cancel());
+        bottomPanel.add(stopButton);
         mainPanel.add(bottomPanel, BorderLayout.SOUTH);
         
         add(mainPanel);
@@ -262,6 +296,65 @@ public class QueensGUI extends JFrame {
             controller.solveAStarDistance(size);
         } else if (geneticRadio.isSelected()) {
             controller.solveGenetic(size);
+        } else if (otherRadio.isSelected()) {
+            solveOther((AlgorithmType) otherCombo.getSelectedItem(), size);
+        }
+    }
+    
+    // Algorithmes ayant leur propre bouton
+    private static boolean isMainAlgorithm(AlgorithmType type) {
+        switch (type) {
+            case DFS:
+            case BFS:
+            case ASTAR_CONFLICT:
+            case ASTAR_DISTANCE:
+            case GENETIC:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private void solveOther(AlgorithmType type, int size) {
+        switch (type) {
+            case DFS_BITMASK:
+                controller.solveDFSBitmask(size);
+                break;
+            case PARALLEL_DFS:
+                controller.solveParallelDFS(size);
+                break;
+            case BFS_PACKED:
+                controller.solveBFSPacked(size);
+                break;
+            case ASTAR_DOMAIN:
+                controller.solveAStarDomain(size);
+                break;
+            case IDA_STAR:
+                controller.solveIDAStar(size);
+                break;
+            case SMA_STAR:
+                controller.solveSMAStar(size);
+                break;
+            case GENETIC_ISLANDS:
+                controller.solveGeneticIslands(size);
+                break;
+            case GENETIC_MEMETIC:
+                controller.solveGeneticMemetic(size);
+                break;
+            case MIN_CONFLICTS:
+                controller.solveMinConflicts(size);
+                break;
+            case FORWARD_CHECKING:
+                controller.solveForwardChecking(size);
+                break;
+            case CONSTRUCTIVE:
+                controller.solveConstructive(size);
+                break;
+            case PORTFOLIO:
+                controller.solvePortfolio(size);
+                break;
+            default:
+                throw new IllegalArgumentException("Algorithme sans bouton: " + type);
         }
     }
     
@@ -269,12 +362,18 @@ public class QueensGUI extends JFrame {
         if (result.isSuccess()) {
             currentBoard = result.getSolution();
             updateBoardSize();
-            
-            // Mettre à jour les statistiques
-            timeLabel.setText(String.format("%.3f s", result.getTimeMillis() / 1000.0));
-            parcoruLabel.setText(String.valueOf(result.getNodesExplored()));
-            creeLabel.setText(String.valueOf(result.getNodesExplored() * 2)); // Estimation
         }
+        
+        // Mettre à jour les statistiques (aussi pour une recherche arrêtée ou sans solution)
+        timeLabel.setText(String.format("%.3f s", result.getTimeMillis() / 1000.0));
+        parcoruLabel.setText(String.valueOf(result.getNodesExplored()));
+        creeLabel.setText(String.valueOf(result.getMetrics().getNodesGenerated()));
+    }
+    
+    // Statistiques en direct pendant la recherche
+    public void displayProgress(SearchProgress progress) {
+        timeLabel.setText(String.format("%.3f s", progress.getElapsedMillis() / 1000.0));
+        parcoruLabel.setText(String.valueOf(progress.getNodesExplored()));
     }
     
     public void setStatus(String status) {